@@ -0,0 +1,76 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticTemplates.Shape;
+import com.axellience.vuegwt.template.compiler.NashornTemplateCompilerBackend;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare compiling many small templates one by one with compiling them all at once using
+ * {@link VueTemplateCompiler#compileAll(Map)}.
+ * Batching only matters for the Nashorn backend, so it's the one used here.
+ * @author Adrien Baron
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchCompilationBenchmark
+{
+    @Param({ "10", "100" })
+    private int templateCount;
+
+    private Map<String, String> templates;
+    private VueTemplateCompiler compiler;
+
+    @Setup
+    public void setup() throws VueTemplateCompilerException
+    {
+        templates = new LinkedHashMap<>();
+        for (int i = 0; i < templateCount; i++)
+        {
+            String processedTemplate = new TemplateParser()
+                .parseHtmlTemplate(Shape.NODES.generate(20 + i), SyntheticTemplates.createContext())
+                .getProcessedTemplate();
+            templates.put("Template" + i, processedTemplate);
+        }
+
+        System.setProperty(VueTemplateCompiler.BACKEND_PROPERTY, NashornTemplateCompilerBackend.NAME);
+        compiler = new VueTemplateCompiler(getClass().getClassLoader(), true);
+        compiler.compileAll(templates);
+    }
+
+    @Benchmark
+    public void compileOneByOne(Blackhole blackhole) throws VueTemplateCompilerException
+    {
+        for (String template : templates.values())
+            blackhole.consume(compiler.compile(template));
+    }
+
+    @Benchmark
+    public Map<String, VueTemplateCompilerResult> compileAll()
+    throws VueTemplateCompilerException
+    {
+        return compiler.compileAll(templates);
+    }
+}
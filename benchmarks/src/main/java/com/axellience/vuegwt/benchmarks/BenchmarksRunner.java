@@ -0,0 +1,56 @@
+package com.axellience.vuegwt.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Run the Vue GWT benchmarks.
+ * <br>
+ * This accepts the same arguments as the JMH runner. Unless specified otherwise, results are
+ * saved as JSON in "vue-gwt-[version].json", so they can be compared across releases.
+ * @author Adrien Baron
+ */
+public class BenchmarksRunner
+{
+    public static void main(String[] args)
+    throws CommandLineOptionException, IOException, RunnerException
+    {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp())
+        {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        if (commandLineOptions.shouldList())
+        {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue())
+            options.resultFormat(ResultFormatType.JSON);
+        if (!commandLineOptions.getResult().hasValue())
+            options.result("vue-gwt-" + getVueGwtVersion() + ".json");
+
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Get the version of Vue GWT being benchmarked, from the manifest of the benchmarks jar.
+     * @return The version of Vue GWT, or "dev" when not running from the jar
+     */
+    private static String getVueGwtVersion()
+    {
+        String version = BenchmarksRunner.class.getPackage().getImplementationVersion();
+        return version == null ? "dev" : version;
+    }
+}
@@ -0,0 +1,84 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.template.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the time taken to compile the first template in a fresh JVM.
+ * <br>
+ * Each measure is done in its own fork, so "coldEngine" includes starting a Nashorn engine and
+ * loading the vue-template-compiler in it. "warmEngine" starts the engine before measuring, to
+ * get the cost of a first compilation on a ready engine.
+ * With the "java" backend, only class loading and JIT warm up are measured.
+ * @author Adrien Baron
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class EngineStartupBenchmark
+{
+    private static final String TEMPLATE = "<div><span v-if=\"visible\">{{ title }}</span></div>";
+
+    @State(Scope.Benchmark)
+    public static class ColdEngine
+    {
+        @Param({ "java", "nashorn" })
+        private String backend;
+
+        private VueTemplateCompiler compiler;
+
+        @Setup
+        public void setup()
+        {
+            System.setProperty(VueTemplateCompiler.BACKEND_PROPERTY, backend);
+            compiler = new VueTemplateCompiler(getClass().getClassLoader(), true);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WarmEngine
+    {
+        @Param({ "java", "nashorn" })
+        private String backend;
+
+        private VueTemplateCompiler compiler;
+
+        @Setup
+        public void setup() throws VueTemplateCompilerException
+        {
+            System.setProperty(VueTemplateCompiler.BACKEND_PROPERTY, backend);
+            compiler = new VueTemplateCompiler(getClass().getClassLoader(), true);
+            compiler.compile("<div></div>");
+        }
+    }
+
+    @Benchmark
+    public VueTemplateCompilerResult coldEngine(ColdEngine state)
+    throws VueTemplateCompilerException
+    {
+        return state.compiler.compile(TEMPLATE);
+    }
+
+    @Benchmark
+    public VueTemplateCompilerResult warmEngine(WarmEngine state)
+    throws VueTemplateCompilerException
+    {
+        return state.compiler.compile(TEMPLATE);
+    }
+}
@@ -0,0 +1,169 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+
+/**
+ * Generate synthetic Vue GWT templates of a given size, along with the context of the Component
+ * they belong to.
+ * @author Adrien Baron
+ */
+public class SyntheticTemplates
+{
+    /**
+     * Depth of v-for nesting in {@link Shape#NESTED_V_FOR} templates.
+     */
+    public static final int V_FOR_DEPTH = 8;
+
+    private static final String IMPORTS =
+        "<vue-gwt:import class=\"" + Item.class.getCanonicalName() + "\"/>";
+
+    /**
+     * The different kinds of templates we can generate.
+     */
+    public enum Shape
+    {
+        /**
+         * Mostly plain nodes, with some bindings, conditions and mustaches.
+         */
+        NODES,
+        /**
+         * Blocks of v-for nested {@link #V_FOR_DEPTH} times, using loop variables of every level.
+         */
+        NESTED_V_FOR,
+        /**
+         * Text nodes with many mustache expressions each.
+         */
+        MUSTACHES;
+
+        /**
+         * Generate a template of this shape.
+         * @param nodeCount The approximate number of nodes in the template
+         * @return The HTML template
+         */
+        public String generate(int nodeCount)
+        {
+            switch (this)
+            {
+                case NESTED_V_FOR:
+                    return nestedVFor(nodeCount);
+                case MUSTACHES:
+                    return mustaches(nodeCount);
+                default:
+                    return nodes(nodeCount);
+            }
+        }
+    }
+
+    /**
+     * Create a context for the Component our synthetic templates belong to.
+     * It has a "title" String, a "count" int, an "items" array of {@link Item} and an
+     * "increment()" method.
+     * @return A new context
+     */
+    public static TemplateParserContext createContext()
+    {
+        TemplateParserContext context = new TemplateParserContext("SyntheticComponent.html");
+        context.addRootVariable(String.class.getCanonicalName(), "title");
+        context.addRootVariable("int", "count");
+        context.addRootVariable(JsArray.class.getCanonicalName(), "items");
+        context.addRootMethod("increment");
+        return context;
+    }
+
+    private static String nodes(int nodeCount)
+    {
+        StringBuilder template = new StringBuilder(IMPORTS).append("<div>");
+        for (int i = 1; i < nodeCount; i++)
+        {
+            switch (i % 4)
+            {
+                case 0:
+                    template.append("<span :title=\"title\">").append(i).append("</span>");
+                    break;
+                case 1:
+                    template.append("<p v-if=\"count > ").append(i).append("\">Node</p>");
+                    break;
+                case 2:
+                    template
+                        .append("<b @click=\"increment()\">{{ title.length() + ")
+                        .append(i)
+                        .append(" }}</b>");
+                    break;
+                default:
+                    template.append("<i>Static text</i>");
+            }
+        }
+        return template.append("</div>").toString();
+    }
+
+    private static String nestedVFor(int nodeCount)
+    {
+        StringBuilder template = new StringBuilder(IMPORTS).append("<div>");
+        // Each block is made of V_FOR_DEPTH nested div and a span
+        int blockCount = Math.max(1, nodeCount / (V_FOR_DEPTH + 1));
+        for (int block = 0; block < blockCount; block++)
+        {
+            for (int depth = 0; depth < V_FOR_DEPTH; depth++)
+            {
+                String in = depth == 0 ? "items" : "item" + (depth - 1) + ".getChildren()";
+                template
+                    .append("<div v-for=\"(Item item")
+                    .append(depth)
+                    .append(", index")
+                    .append(depth)
+                    .append(") in ")
+                    .append(in)
+                    .append("\">");
+            }
+
+            template.append("<span>{{ item").append(V_FOR_DEPTH - 1).append(".getName()");
+            for (int depth = 0; depth < V_FOR_DEPTH; depth++)
+                template.append(" + index").append(depth);
+            template.append(" }}</span>");
+
+            for (int depth = 0; depth < V_FOR_DEPTH; depth++)
+                template.append("</div>");
+        }
+        return template.append("</div>").toString();
+    }
+
+    private static String mustaches(int nodeCount)
+    {
+        StringBuilder template = new StringBuilder(IMPORTS).append("<div>");
+        for (int i = 1; i < nodeCount; i++)
+        {
+            template.append("<p>");
+            for (int j = 0; j < 10; j++)
+            {
+                template
+                    .append("{{ title + (count * ")
+                    .append(i)
+                    .append(" + ")
+                    .append(j)
+                    .append(") }} ");
+            }
+            template.append("</p>");
+        }
+        return template.append("</div>").toString();
+    }
+
+    /**
+     * Type of the items we iterate on in our synthetic templates.
+     */
+    public static class Item
+    {
+        private String name;
+        private JsArray<Item> children;
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public JsArray<Item> getChildren()
+        {
+            return children;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticTemplates.Shape;
+import com.axellience.vuegwt.template.compiler.NashornTemplateCompilerBackend;
+import com.axellience.vuegwt.template.compiler.TemplateCompilerBackend;
+import com.axellience.vuegwt.template.compiler.UnsupportedTemplateException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.compiler.java.JavaTemplateCompilerBackend;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import com.coveo.nashorn_modules.ResourceFolder;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.ParseSettings;
+import org.jsoup.parser.Parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Check that the {@link JavaTemplateCompilerBackend} gives the same render functions as the
+ * vue-template-compiler running in Nashorn.
+ * <br>
+ * Templates come from {@link SyntheticTemplates}, a set of templates using the features the
+ * Java backend supports, and the HTML files found in the directories given as arguments.
+ * Templates the Java backend doesn't support are listed but are not failures, as they fall back
+ * to Nashorn.
+ * @author Adrien Baron
+ */
+public class TemplateCompilerConformance
+{
+    private static final String COMPILER_FOLDER = "com/axellience/vuegwt/client/template/compiler";
+
+    private static final String[] FEATURE_TEMPLATES = {
+        "",
+        "text outside root",
+        "<div></div>",
+        "<div>\n  <span>Hello</span>\n  <span>World</span>\n</div>",
+        "<div>Some &lt;escaped&gt; &amp; text&nbsp;here   and there</div>",
+        "<div id=\"main\" class=\"a  b\" style=\"color: red; background: url(a;b.png)\" data-x=\"&quot;\">static</div>",
+        "<div :id=\"id\" :class=\"{ active: isActive }\" :style=\"{ color: color }\" class=\"c\"></div>",
+        "<div><p v-if=\"a\">A</p><p v-else-if=\"b\">B</p>\n<p v-else>C</p></div>",
+        "<div v-if=\"a\">A</div><div v-else>B</div>",
+        "<ul><li v-for=\"item in items\" :key=\"item.id\">{{ item.name }}</li></ul>",
+        "<ul><li v-for=\"(item, index) in items\">{{ index }}: {{ item | capitalize }}</li></ul>",
+        "<div><template v-for=\"(value, key, index) of object\"><b>{{ key }}</b><i>static</i></template></div>",
+        "<div><template v-if=\"ok\"><h1>Title</h1><p>Paragraph</p></template></div>",
+        "<div><my-component :value=\"a\" @change=\"onChange\"></my-component><span>b</span></div>",
+        "<div><button @click=\"count++\" @click.stop.prevent=\"doThat\" @keyup.enter.13=\"submit()\" @keyup.delete.left=\"x\" @mouseover.self.once=\"y\" @focus.capture.passive=\"z\">b</button></div>",
+        "<div><my-button @click.native=\"onClick\" @custom=\"function (e) { a = e }\" @other=\"(e) => a(e)\"></my-button></div>",
+        "<div v-text=\"message\" v-cloak></div>",
+        "<div><span v-html=\"html\"></span><span v-my-directive:arg.mod1.mod2=\"value\"></span><span v-focus></span></div>",
+        "<div><input :value=\"text\" type=\"text\"><input type=\"checkbox\" :checked=\"on\"><button :value=\"v\" type=\"button\"></button></div>",
+        "<div :inner-html.prop=\"html\" :view-box.camel=\"box\"></div>",
+        "<div><span ref=\"single\">a</span><span v-for=\"i in 3\" ref=\"multiple\" :key=\"i\">{{ i }}</span></div>",
+        "<div><svg width=\"10\"><circle cx=\"5\" r=\"4\"></circle></svg><math><mi>x</mi></math></div>",
+        "<div><div><p>Deep <b>static</b> tree</p></div><div v-for=\"i in list\"><p>Static <i>in</i> for</p></div></div>",
+        "<div><img src=\"a.png\"><br><hr><input></div>",
+        "<div>{{ a }} and {{ b || 'c' }} {{ d | f1 | f2(e, 'g') }}</div>",
+        "<div><p v-if=\"a\">A</p>text<p v-else>B</p></div>",
+        "<div><template><span>in template</span></template></div>",
+        "<table><tbody><tr><td>Cell</td><td>{{ cell }}</td></tr></tbody></table>",
+        "<div><!-- a comment --><span>after comment</span></div>",
+        "<div><custom-element><slot-like>x</slot-like></custom-element></div>",
+        "<div><p v-for=\"item in items\" v-if=\"item.visible\">{{ item }}</p></div>",
+        "<div><span :title=\"a ? 'b' : `c`\" :data-x=\"a / 2 | double\"></span></div>",
+        "<div>&nbsp;<span>\u2028line\u2029separators\u00a0</span>\u3000<b> </b></div>",
+        "<div title=\"multi\nline\" @1=\"a\" @0=\"b\" @keyup.x.27.ctrl=\"c\" @keydown.0.-5=\"d\"></div>",
+        "<div><p v-if=\"a\" v-for=\"x in y\">a</p><p v-else-if=\"b\">b</p><my-comp v-else></my-comp></div>",
+        "<div><template v-for=\"x in y\"><p>static in template for</p></template></div>",
+        "<div><span @click=\"a.b['c'][0]\">x</span><span @click=\"  a  \">y</span></div>",
+        "<div><span v-else>orphan else</span><p><div>in p</div></p></div>",
+        "<div><span v-once>once</span><slot></slot><component :is=\"c\"></component><pre>  x</pre></div>"
+    };
+
+    public static void main(String[] args) throws IOException, VueTemplateCompilerException
+    {
+        Map<String, String> templates = new LinkedHashMap<>();
+        for (int i = 0; i < FEATURE_TEMPLATES.length; i++)
+            templates.put("feature-" + i, normalize(FEATURE_TEMPLATES[i]));
+
+        for (Shape shape : Shape.values())
+        {
+            for (int nodeCount : new int[] { 10, 100 })
+            {
+                templates.put(shape + "-" + nodeCount, new TemplateParser()
+                    .parseHtmlTemplate(shape.generate(nodeCount), SyntheticTemplates.createContext())
+                    .getProcessedTemplate());
+            }
+        }
+
+        for (String directory : args)
+        {
+            for (Path file : listHtmlFiles(Paths.get(directory)))
+            {
+                templates.put(file.toString(),
+                    normalize(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+            }
+        }
+
+        TemplateCompilerBackend javaBackend = new JavaTemplateCompilerBackend();
+        TemplateCompilerBackend nashornBackend = new NashornTemplateCompilerBackend(() -> ResourceFolder
+            .create(TemplateCompilerConformance.class.getClassLoader(), COMPILER_FOLDER, "UTF-8"));
+
+        int matching = 0;
+        int unsupported = 0;
+        int different = 0;
+        for (Map.Entry<String, String> template : templates.entrySet())
+        {
+            VueTemplateCompilerResult expected = nashornBackend.compile(template.getValue());
+            VueTemplateCompilerResult actual;
+            try
+            {
+                actual = javaBackend.compile(template.getValue());
+            }
+            catch (UnsupportedTemplateException e)
+            {
+                unsupported++;
+                System.out.println("UNSUPPORTED " + template.getKey() + ": " + e.getMessage());
+                continue;
+            }
+
+            if (isSame(expected, actual))
+            {
+                matching++;
+                continue;
+            }
+
+            different++;
+            System.out.println("DIFFERENT " + template.getKey());
+            System.out.println("  Template: " + template.getValue());
+            System.out.println("  Nashorn:  " + describe(expected));
+            System.out.println("  Java:     " + describe(actual));
+        }
+
+        System.out.println(templates.size()
+            + " templates: "
+            + matching
+            + " matching, "
+            + unsupported
+            + " unsupported, "
+            + different
+            + " different");
+        System.exit(different == 0 ? 0 : 1);
+    }
+
+    /**
+     * Process a template with jsoup like the {@link TemplateParser}, without touching the
+     * expressions.
+     */
+    private static String normalize(String template)
+    {
+        Parser parser = Parser.htmlParser();
+        parser.settings(new ParseSettings(true, true));
+        Document document = parser.parseInput(template, "");
+        document.select("vue-gwt|import").remove();
+        return document.body().html();
+    }
+
+    private static List<Path> listHtmlFiles(Path directory) throws IOException
+    {
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            return files
+                .filter(file -> file.toString().endsWith(".html"))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isSame(VueTemplateCompilerResult expected,
+        VueTemplateCompilerResult actual)
+    {
+        return expected.getRenderFunction().equals(actual.getRenderFunction()) && Arrays.equals(
+            expected.getStaticRenderFunctions(),
+            actual.getStaticRenderFunctions());
+    }
+
+    private static String describe(VueTemplateCompilerResult result)
+    {
+        return result.getRenderFunction() + " " + Arrays.toString(result.getStaticRenderFunctions());
+    }
+}
@@ -0,0 +1,54 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticTemplates.Shape;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the time taken by the {@link TemplateParser} to process templates of various shapes
+ * and sizes.
+ * @author Adrien Baron
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateParserBenchmark
+{
+    @Param({ "NODES", "NESTED_V_FOR", "MUSTACHES" })
+    private Shape shape;
+
+    @Param({ "100", "1000", "10000" })
+    private int nodeCount;
+
+    private String template;
+
+    @Setup
+    public void setup()
+    {
+        template = shape.generate(nodeCount);
+    }
+
+    @Benchmark
+    public TemplateParserResult parse()
+    {
+        // The context is modified by the parser (imports), so we need a new one each time
+        return new TemplateParser().parseHtmlTemplate(template,
+            SyntheticTemplates.createContext());
+    }
+}
@@ -0,0 +1,95 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.template.parser.VForDefinition;
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.template.parser.variable.VariableInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the cost of {@link VForDefinition} and of variable lookups in the
+ * {@link TemplateParserContext}, depending on the v-for nesting depth.
+ * @author Adrien Baron
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateParserContextBenchmark
+{
+    @Param({ "1", "4", "16" })
+    private int depth;
+
+    private TemplateParserContext context;
+
+    @Setup
+    public void setup()
+    {
+        context = SyntheticTemplates.createContext();
+        context.addImport(SyntheticTemplates.Item.class.getCanonicalName());
+        for (int i = 0; i < depth; i++)
+        {
+            context.addContextLayer();
+            context.addLocalVariable(SyntheticTemplates.Item.class.getCanonicalName(), "item" + i);
+        }
+    }
+
+    @Benchmark
+    public VariableInfo findRootVariable()
+    {
+        // Root variables are found last, after looking in every v-for layer
+        return context.findVariable("title");
+    }
+
+    @Benchmark
+    public VariableInfo findLocalVariable()
+    {
+        return context.findVariable("item0");
+    }
+
+    @Benchmark
+    public VariableInfo findMissingVariable()
+    {
+        return context.findVariable("missing");
+    }
+
+    @Benchmark
+    public VForDefinition vForOnArray()
+    {
+        return vFor("(Item item, index) in items");
+    }
+
+    @Benchmark
+    public VForDefinition vForOnObject()
+    {
+        return vFor("(String value, key, index) in (Object) title");
+    }
+
+    @Benchmark
+    public VForDefinition vForOnRange()
+    {
+        return vFor("n in 10");
+    }
+
+    private VForDefinition vFor(String vForValue)
+    {
+        // The v-for adds its variables in a new layer, which we remove to keep the same depth
+        context.addContextLayer();
+        VForDefinition vForDefinition = new VForDefinition(vForValue, context);
+        context.popContextLayer();
+        return vForDefinition;
+    }
+}
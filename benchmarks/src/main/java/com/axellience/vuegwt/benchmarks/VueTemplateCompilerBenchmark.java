@@ -0,0 +1,76 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticTemplates.Shape;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the time taken by the {@link VueTemplateCompiler} to compile templates of various
+ * shapes and sizes, once its engine is started.
+ * Templates are first processed by the {@link TemplateParser}, like during a real compilation.
+ * Both the Java backend and the vue-template-compiler running in Nashorn are measured.
+ * @author Adrien Baron
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VueTemplateCompilerBenchmark
+{
+    @Param({ "java", "nashorn" })
+    private String backend;
+
+    @Param({ "NODES", "NESTED_V_FOR", "MUSTACHES" })
+    private Shape shape;
+
+    @Param({ "100", "1000", "10000" })
+    private int nodeCount;
+
+    private String processedTemplate;
+    private VueTemplateCompiler compiler;
+    private VueTemplateCompiler compilerKeepingWith;
+
+    @Setup
+    public void setup() throws VueTemplateCompilerException
+    {
+        processedTemplate = new TemplateParser()
+            .parseHtmlTemplate(shape.generate(nodeCount), SyntheticTemplates.createContext())
+            .getProcessedTemplate();
+
+        System.setProperty(VueTemplateCompiler.BACKEND_PROPERTY, backend);
+        compiler = new VueTemplateCompiler(getClass().getClassLoader(), true);
+        compilerKeepingWith = new VueTemplateCompiler(getClass().getClassLoader(), false);
+
+        // Make sure an engine is started before measuring
+        compiler.compile(processedTemplate);
+    }
+
+    @Benchmark
+    public VueTemplateCompilerResult compile() throws VueTemplateCompilerException
+    {
+        return compiler.compile(processedTemplate);
+    }
+
+    @Benchmark
+    public VueTemplateCompilerResult compileKeepingWith() throws VueTemplateCompilerException
+    {
+        return compilerKeepingWith.compile(processedTemplate);
+    }
+}
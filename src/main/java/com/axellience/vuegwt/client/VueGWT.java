@@ -2,8 +2,11 @@ package com.axellience.vuegwt.client;
 
 import com.axellience.vuegwt.client.component.ComponentJavaConstructor;
 import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.component.async.AsyncComponentMetrics;
+import com.axellience.vuegwt.client.component.async.PrefetchScheduler;
 import com.axellience.vuegwt.client.jsnative.html.HTMLDocument;
 import com.axellience.vuegwt.client.jsnative.html.HTMLElement;
+import com.axellience.vuegwt.client.jsnative.jsfunctions.JsConsumer;
 import com.axellience.vuegwt.client.jsnative.jsfunctions.JsRunnable;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
@@ -11,6 +14,7 @@ import com.axellience.vuegwt.client.resources.VueGwtResources;
 import com.axellience.vuegwt.client.resources.VueLibResources;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.axellience.vuegwt.client.vue.VueFactory;
+import com.axellience.vuegwt.client.vue.VueJsAsyncProvider;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
@@ -19,6 +23,7 @@ import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
 
 import javax.inject.Provider;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -37,6 +42,10 @@ public class VueGWT
     private static final Map<String, VueFactory<? extends VueComponent>> factories =
         new HashMap<>();
     private static final Map<String, Provider<?>> factoryProviders = new HashMap<>();
+    private static final Map<String, VueJsAsyncProvider<VueFactory<?>>> asyncFactoryProviders =
+        new HashMap<>();
+    private static final Map<String, AsyncComponentMetrics> asyncComponentsMetrics =
+        new HashMap<>();
 
     /**
      * Inject scripts necessary for Vue GWT to work.
@@ -133,11 +142,140 @@ public class VueGWT
         if (factories.containsKey(qualifiedName))
             return (VueFactory<T>) factories.get(qualifiedName);
 
+        if (asyncFactoryProviders.containsKey(qualifiedName))
+        {
+            throw new RuntimeException("The Component "
+                + qualifiedName
+                + " is loaded asynchronously and isn't loaded yet. Please use VueGWT.getFactoryAsync() to get its VueFactory.");
+        }
+
         throw new RuntimeException("Couldn't find VueFactory for Component: "
             + qualifiedName
             + ". Make sure that annotation are being processed, and that you added the -generateJsInteropExports flag to GWT. You can also try a \"mvn clean\" on your maven project.");
     }
 
+    /**
+     * Get the {@link VueFactory} for the given {@link VueComponent} class, loading the Component
+     * first if it's asynchronous (async = true in its @Component annotation).
+     * Once loaded, the {@link VueFactory} can also be retrieved with {@link #getFactory(Class)}.
+     * If the Component can't be loaded, an exception is thrown.
+     * @param vueComponentClass The {@link VueComponent} class
+     * @param callback Called with the {@link VueFactory} once the Component is loaded
+     * @param <T> The type of the {@link VueComponent}
+     */
+    @JsIgnore
+    public static <T extends VueComponent> void getFactoryAsync(Class<T> vueComponentClass,
+        JsConsumer<VueFactory<T>> callback)
+    {
+        getFactoryAsync(vueComponentClass.getCanonicalName(), callback, null);
+    }
+
+    /**
+     * Get the {@link VueFactory} for the given {@link VueComponent} class, loading the Component
+     * first if it's asynchronous (async = true in its @Component annotation).
+     * Once loaded, the {@link VueFactory} can also be retrieved with {@link #getFactory(Class)}.
+     * @param vueComponentClass The {@link VueComponent} class
+     * @param callback Called with the {@link VueFactory} once the Component is loaded
+     * @param onFailure Called with the reason if the Component can't be loaded
+     * @param <T> The type of the {@link VueComponent}
+     */
+    @JsIgnore
+    public static <T extends VueComponent> void getFactoryAsync(Class<T> vueComponentClass,
+        JsConsumer<VueFactory<T>> callback, JsConsumer<Throwable> onFailure)
+    {
+        getFactoryAsync(vueComponentClass.getCanonicalName(), callback, onFailure);
+    }
+
+    /**
+     * Get the {@link VueFactory} for the given {@link VueComponent} fully qualified name, loading
+     * the Component first if it's asynchronous (async = true in its @Component annotation).
+     * @param qualifiedName The fully qualified name of the {@link VueComponent} class
+     * @param callback Called with the {@link VueFactory} once the Component is loaded
+     * @param onFailure Called with the reason if the Component can't be loaded. If null, the
+     * reason is thrown instead
+     * @param <T> The type of the {@link VueComponent}
+     */
+    public static <T extends VueComponent> void getFactoryAsync(String qualifiedName,
+        JsConsumer<VueFactory<T>> callback, JsConsumer<Throwable> onFailure)
+    {
+        JsConsumer<Throwable> failureCallback =
+            onFailure != null ? onFailure : VueGWT::throwAsyncFailure;
+
+        VueJsAsyncProvider<VueFactory<?>> asyncFactoryProvider =
+            asyncFactoryProviders.get(qualifiedName);
+        if (asyncFactoryProvider == null || factories.containsKey(qualifiedName))
+        {
+            VueFactory<T> factory;
+            try
+            {
+                factory = getFactory(qualifiedName);
+            }
+            catch (RuntimeException e)
+            {
+                failureCallback.accept(e);
+                return;
+            }
+            callback.accept(factory);
+            return;
+        }
+
+        asyncFactoryProvider.run(factory -> {
+            factories.put(qualifiedName, factory);
+            callback.accept((VueFactory<T>) factory);
+        }, failureCallback);
+    }
+
+    private static void throwAsyncFailure(Throwable reason)
+    {
+        if (reason instanceof RuntimeException)
+            throw (RuntimeException) reason;
+
+        throw new RuntimeException(reason);
+    }
+
+    /**
+     * Load the given asynchronous {@link VueComponent}s in the background, when the browser is
+     * idle. They are loaded one at a time, in the given order, after the Components with a
+     * prefetchPriority in their @Component annotation.
+     * Components already loaded or already asked for are ignored.
+     * @param vueComponentClasses The {@link VueComponent} classes to load
+     */
+    @JsIgnore
+    @SafeVarargs
+    public static void prefetch(Class<? extends VueComponent>... vueComponentClasses)
+    {
+        for (Class<? extends VueComponent> vueComponentClass : vueComponentClasses)
+            PrefetchScheduler.prefetch(vueComponentClass.getCanonicalName(), 0);
+    }
+
+    /**
+     * Return the time spent loading each asynchronous {@link VueComponent} already loaded.
+     * @return The {@link AsyncComponentMetrics} by {@link VueComponent} fully qualified name
+     */
+    @JsIgnore
+    public static Map<String, AsyncComponentMetrics> getAsyncComponentsMetrics()
+    {
+        return Collections.unmodifiableMap(asyncComponentsMetrics);
+    }
+
+    /**
+     * Record the time spent loading an asynchronous {@link VueComponent}.
+     * Only the first load of each Component is recorded.
+     * @param qualifiedName The fully qualified name of the {@link VueComponent} class
+     * @param fragmentLoadTime The time in milliseconds to load the code of the Component
+     * @param factoryInitTime The time in milliseconds to create its {@link VueFactory}
+     */
+    @JsIgnore
+    public static void recordAsyncComponentLoad(String qualifiedName, double fragmentLoadTime,
+        double factoryInitTime)
+    {
+        if (!asyncComponentsMetrics.containsKey(qualifiedName))
+        {
+            asyncComponentsMetrics.put(qualifiedName,
+                new AsyncComponentMetrics(fragmentLoadTime, factoryInitTime));
+        }
+    }
+
     /**
      * Return the {@link VueJsConstructor} for the given {@link VueComponent} class.
      * @param vueComponentClass The {@link VueComponent} class
@@ -208,6 +346,36 @@ public class VueGWT
         factoryProviders.put(qualifiedName, vueFactoryProvider);
     }
 
+    /**
+     * Register an asynchronous provider of {@link VueFactory} for a given {@link VueComponent}
+     * fully qualified name.
+     * @param qualifiedName The fully qualified name of the {@link VueComponent} class
+     * @param asyncFactoryProvider Load the {@link VueComponent} code and provide its
+     * {@link VueFactory}
+     */
+    @JsIgnore
+    public static void registerAsync(String qualifiedName,
+        VueJsAsyncProvider<VueFactory<?>> asyncFactoryProvider)
+    {
+        asyncFactoryProviders.put(qualifiedName, asyncFactoryProvider);
+    }
+
+    /**
+     * Register an asynchronous provider of {@link VueFactory} for a given {@link VueComponent}
+     * fully qualified name, and load it in the background when the browser is idle.
+     * @param qualifiedName The fully qualified name of the {@link VueComponent} class
+     * @param asyncFactoryProvider Load the {@link VueComponent} code and provide its
+     * {@link VueFactory}
+     * @param prefetchPriority Components with a higher priority are loaded first
+     */
+    @JsIgnore
+    public static void registerAsync(String qualifiedName,
+        VueJsAsyncProvider<VueFactory<?>> asyncFactoryProvider, int prefetchPriority)
+    {
+        registerAsync(qualifiedName, asyncFactoryProvider);
+        PrefetchScheduler.prefetch(qualifiedName, prefetchPriority);
+    }
+
     /**
      * Ask to be warned when Vue GWT is ready.
      * If Vue GWT is ready, the callback is called immediately.
@@ -0,0 +1,35 @@
+package com.axellience.vuegwt.client.component.async;
+
+/**
+ * Time spent loading an async Component the first time it was used or prefetched.
+ * @author Adrien Baron
+ */
+public class AsyncComponentMetrics
+{
+    private final double fragmentLoadTime;
+    private final double factoryInitTime;
+
+    public AsyncComponentMetrics(double fragmentLoadTime, double factoryInitTime)
+    {
+        this.fragmentLoadTime = fragmentLoadTime;
+        this.factoryInitTime = factoryInitTime;
+    }
+
+    /**
+     * @return The time in milliseconds to download and run the GWT code fragment of the
+     * Component
+     */
+    public double getFragmentLoadTime()
+    {
+        return fragmentLoadTime;
+    }
+
+    /**
+     * @return The time in milliseconds to create the VueFactory of the Component, once its code
+     * was loaded
+     */
+    public double getFactoryInitTime()
+    {
+        return factoryInitTime;
+    }
+}
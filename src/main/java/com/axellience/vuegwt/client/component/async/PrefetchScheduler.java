@@ -0,0 +1,98 @@
+package com.axellience.vuegwt.client.component.async;
+
+import com.axellience.vuegwt.client.VueGWT;
+import com.axellience.vuegwt.client.jsnative.jsfunctions.JsRunnable;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.tools.JsTools;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+
+/**
+ * Load async Components in the background when the browser is idle, so they are ready when
+ * they are first used.
+ * Components are loaded one at a time, by decreasing priority. Components with the same priority
+ * are loaded in the order they were asked for.
+ * The browser is considered idle when requestIdleCallback calls us, or on the next setTimeout
+ * if it's not available.
+ * Components that can't be loaded are skipped.
+ * @author Adrien Baron
+ */
+public class PrefetchScheduler
+{
+    private static final List<PrefetchRequest> queue = new LinkedList<>();
+    private static final Set<String> requestedComponents = new HashSet<>();
+    // True from the moment a load is scheduled until it ends
+    private static boolean isBusy = false;
+
+    /**
+     * Ask to load the given Component when the browser is idle.
+     * Asking for the same Component more than once has no effect.
+     * @param qualifiedName The fully qualified name of the Component class
+     * @param priority Components with a higher priority are loaded first
+     */
+    public static void prefetch(String qualifiedName, int priority)
+    {
+        if (!requestedComponents.add(qualifiedName))
+            return;
+
+        ListIterator<PrefetchRequest> iterator = queue.listIterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().priority < priority)
+            {
+                iterator.previous();
+                break;
+            }
+        }
+        iterator.add(new PrefetchRequest(qualifiedName, priority));
+
+        scheduleNext();
+    }
+
+    private static void scheduleNext()
+    {
+        if (isBusy || queue.isEmpty())
+            return;
+
+        isBusy = true;
+        onIdle(() -> {
+            PrefetchRequest request = queue.remove(0);
+            // A Component that fails to load is skipped, the error will surface when it's used
+            VueGWT.getFactoryAsync(request.qualifiedName,
+                factory -> onLoadEnd(),
+                reason -> onLoadEnd());
+        });
+    }
+
+    private static void onLoadEnd()
+    {
+        isBusy = false;
+        scheduleNext();
+    }
+
+    private static void onIdle(JsRunnable callback)
+    {
+        JsObject window = JsTools.getWindow();
+        Object requestIdleCallback = window.get("requestIdleCallback");
+        if (requestIdleCallback != null)
+            JsTools.call(requestIdleCallback, window, callback);
+        else
+            JsTools.call(window.get("setTimeout"), window, callback);
+    }
+
+    private static class PrefetchRequest
+    {
+        private final String qualifiedName;
+        private final int priority;
+
+        private PrefetchRequest(String qualifiedName, int priority)
+        {
+            this.qualifiedName = qualifiedName;
+            this.priority = priority;
+        }
+    }
+}
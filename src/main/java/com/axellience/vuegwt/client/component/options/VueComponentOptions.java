@@ -5,13 +5,14 @@ import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.computed.ComputedKind;
 import com.axellience.vuegwt.client.component.options.computed.ComputedOptions;
 import com.axellience.vuegwt.client.component.options.data.DataFactory;
+import com.axellience.vuegwt.client.component.options.data.DataFieldsFactory;
 import com.axellience.vuegwt.client.component.options.props.PropOptions;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.client.directive.options.VueDirectiveOptions;
-import com.axellience.vuegwt.client.jsnative.jstypes.JSON;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.client.tools.VueGWTTools;
 import com.google.gwt.resources.client.CssResource;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
@@ -42,6 +43,8 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
     private TemplateResource<T> templateResource;
     private Map<String, Provider<?>> dependenciesProvider;
     private JsObject dataFields;
+    private JsArray<String> templateStyleNames;
+    private JsArray<CssResource> templateStyles;
 
     /**
      * Set the Java Prototype on this {@link VueComponentOptions}.
@@ -84,6 +87,9 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
 
     /**
      * Add template expressions to this {@link VueComponentOptions}.
+     * Expressions without parameters in an element with "vue-gwt:computed" are added as computed
+     * properties, so Vue caches them. Other expressions are methods, except in a v-for with
+     * "vue-gwt:memoize" where they cache their result for each value of their parameters.
      */
     @JsOverlay
     private void initExpressions()
@@ -92,6 +98,20 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
         {
             addMethod(methodId, JsTools.get(templateResource, methodId));
         }
+
+        for (String computedId : templateResource.getTemplateComputedProperties())
+        {
+            ComputedOptions computedDefinition = new ComputedOptions();
+            computedDefinition.get = JsTools.get(templateResource, computedId);
+            addComputedOptions(computedId, computedDefinition);
+        }
+
+        for (String memoizedMethodId : templateResource.getTemplateMemoizedMethods())
+        {
+            addMethod(memoizedMethodId,
+                VueGWTTools.memoizeTemplateExpression(JsTools.get(templateResource,
+                    memoizedMethodId)));
+        }
     }
 
     /**
@@ -100,23 +120,20 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
     @JsOverlay
     private void initRenderFunctions()
     {
-        this.set("render", JsTools.createFunction(templateResource.getRenderFunction()));
-
-        JsArray<Object> staticRenderFns = new JsArray<>();
-        for (String staticRenderFunction : templateResource.getStaticRenderFunctions())
-        {
-            staticRenderFns.push(JsTools.createFunction(staticRenderFunction));
-        }
-        this.setStaticRenderFns(staticRenderFns);
+        this.set("render", templateResource.getRenderFunction());
+        this.setStaticRenderFns(templateResource.getStaticRenderFunctions());
     }
 
     /**
      * Initialise the data structure, then set it to either a Factory or directly on the Component.
      * @param useFactory Boolean representing whether or not to use a Factory.
+     * @param dataFieldsFactory The generated factory creating the data object of each instance,
+     * only used if useFactory is true
      * @param fieldNames Name of the data fields in the object
      */
     @JsOverlay
-    public final void initData(boolean useFactory, String... fieldNames)
+    public final void initData(boolean useFactory, DataFieldsFactory dataFieldsFactory,
+        String... fieldNames)
     {
         dataFields = new JsObject();
         for (String fieldName : fieldNames)
@@ -129,11 +146,11 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
                 dataFields.set(fieldName, null);
         }
 
+        initStyles();
         if (useFactory)
         {
-            String dataFieldsJSON = JSON.stringify(dataFields);
             this.setData((DataFactory) () -> {
-                JsObject data = JSON.parse(dataFieldsJSON);
+                JsObject data = dataFieldsFactory.create(dataFields);
                 addStylesToData(data);
                 return data;
             });
@@ -146,17 +163,54 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
     }
 
     /**
-     * Copy the Component styles from GWT to the data of the ComponentOptions.
-     * @param data The data of the ComponentOptions
+     * Get the Component styles from GWT once, so they don't have to be looked up again for each
+     * instance of the Component.
      */
     @JsOverlay
-    private void addStylesToData(JsObject data)
+    private void initStyles()
     {
+        templateStyleNames = new JsArray<>();
+        templateStyles = new JsArray<>();
         if (templateResource == null || templateResource.getTemplateStyles() == null)
             return;
 
         for (Entry<String, CssResource> style : templateResource.getTemplateStyles().entrySet())
-            data.set(style.getKey(), style.getValue());
+        {
+            templateStyleNames.push(style.getKey());
+            templateStyles.push(style.getValue());
+        }
+    }
+
+    /**
+     * Make this Component functional. It won't have instances: Vue.js calls its render function
+     * directly with its props.
+     * The render function is called on an object with the props, inheriting from the
+     * {@link TemplateResource} if the Component has a template, so template expressions, styles
+     * and Java methods still work.
+     */
+    @JsOverlay
+    public final void initFunctional()
+    {
+        Object renderPrototype =
+            templateResource != null ? templateResource : componentJavaPrototype;
+
+        initStyles();
+        JsObject styles = new JsObject();
+        addStylesToData(styles);
+
+        this.set("functional", true);
+        this.set("render", VueGWTTools.createFunctionalRender(this, renderPrototype, styles));
+    }
+
+    /**
+     * Copy the Component styles from GWT to the data of the ComponentOptions.
+     * @param data The data of the ComponentOptions
+     */
+    @JsOverlay
+    private void addStylesToData(JsObject data)
+    {
+        for (int i = 0; i < templateStyleNames.length; i++)
+            data.set(templateStyleNames.get(i), templateStyles.get(i));
     }
 
     /**
@@ -0,0 +1,16 @@
+package com.axellience.vuegwt.client.component.options.data;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+
+/**
+ * Create a new data object for an instance of a Component, from the default values of its data
+ * fields.
+ * An implementation is generated by the annotation processor for each Component using a factory
+ * for its data model. It sets each field directly on the data object.
+ * @author Adrien Baron
+ */
+@FunctionalInterface
+public interface DataFieldsFactory
+{
+    JsObject create(JsObject defaultValues);
+}
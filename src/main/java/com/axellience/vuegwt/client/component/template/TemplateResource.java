@@ -1,6 +1,7 @@
 package com.axellience.vuegwt.client.component.template;
 
 import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.template.TemplateResourceGwtGenerator;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.resources.client.ResourcePrototype;
@@ -20,11 +21,11 @@ public interface TemplateResource<T extends VueComponent> extends ResourceProtot
 {
     String EXPRESSION_PREFIX = "exp$";
 
-    default String getRenderFunction()
+    default Object getRenderFunction()
     {
-        return "";
+        return null;
     }
-    default String[] getStaticRenderFunctions()
+    default JsArray<Object> getStaticRenderFunctions()
     {
         return null;
     }
@@ -32,6 +33,14 @@ public interface TemplateResource<T extends VueComponent> extends ResourceProtot
     {
         return null;
     }
+    default String[] getTemplateComputedProperties()
+    {
+        return null;
+    }
+    default String[] getTemplateMemoizedMethods()
+    {
+        return null;
+    }
     default Map<String, CssResource> getTemplateStyles()
     {
         return null;
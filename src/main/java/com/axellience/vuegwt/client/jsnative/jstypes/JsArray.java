@@ -84,6 +84,9 @@ public class JsArray<T>
     @JsMethod
     public native void splice(int start, int length);
 
+    @JsMethod
+    public native void splice(int start, int length, T... items);
+
     @JsMethod
     public native void unshift(T item);
 
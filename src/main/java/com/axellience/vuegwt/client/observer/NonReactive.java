@@ -0,0 +1,13 @@
+package com.axellience.vuegwt.client.observer;
+
+/**
+ * Marker for types whose instances should never be made reactive by Vue.
+ * Their properties and the objects they reference are not observed, which saves the cost of
+ * observing large data that is never modified.
+ * <br>
+ * To do the same for a single instance, use {@link VueGWTObserverManager#markRaw(Object)}.
+ * @author Adrien Baron
+ */
+public interface NonReactive
+{
+}
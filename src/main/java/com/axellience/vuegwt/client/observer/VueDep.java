@@ -0,0 +1,20 @@
+package com.axellience.vuegwt.client.observer;
+
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * A Vue.js dependency. Watchers (like the render of a Component) that call
+ * {@link #depend()} are notified when {@link #notifySelf()} is called.
+ * New ones can be created with {@link VueGWTObserverManager#createDep()}.
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public class VueDep
+{
+    public native void depend();
+
+    @JsMethod(name = "notify")
+    public native void notifySelf();
+}
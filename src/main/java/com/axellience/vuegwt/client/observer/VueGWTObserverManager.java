@@ -1,14 +1,20 @@
 package com.axellience.vuegwt.client.observer;
 
+import com.axellience.vuegwt.client.jsnative.jsfunctions.JsConsumer;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollectionObserver;
 import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionObserver;
 import com.axellience.vuegwt.client.observer.vuegwtobservers.MapObserver;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.google.gwt.core.client.JavaScriptObject;
 import jsinterop.annotations.JsMethod;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class allow extension of the default Vue Observer.
@@ -21,10 +27,40 @@ public class VueGWTObserverManager
 {
     private static List<VueGWTObserver> observers = new LinkedList<>();
 
+    /**
+     * Used in {@link #observersByClass} for classes that are not handled by any custom observer.
+     */
+    private static final VueGWTObserver NO_OBSERVER = new VueGWTObserver()
+    {
+        @Override
+        public boolean observe(Object object)
+        {
+            return false;
+        }
+    };
+    private static Map<Class<?>, VueGWTObserver> observersByClass = new HashMap<>();
+    /**
+     * Our own observers decide by the class of the object, so classes they all declined can be
+     * remembered. Custom observers may decide per instance, so once one is registered, they are
+     * asked again for each instance of these classes.
+     */
+    private static boolean hasCustomObservers = false;
+
+    /**
+     * The fields initializer of the generated reactive descriptor of each class, or null for
+     * classes without one.
+     */
+    private static Map<Class<?>, JsConsumer<Object>> fieldsInitializersByClass = new HashMap<>();
+
+    private static int batchDepth = 0;
+    private static Map<VueObserver, JsArray<Object>> batchedAddedItems = new IdentityHashMap<>();
+    private static Map<VueDep, VueDep> batchedDeps = new IdentityHashMap<>();
+
     static
     {
-        registerVueGWTObserver(new CollectionObserver());
-        registerVueGWTObserver(new MapObserver());
+        addObserver(new CollectionObserver());
+        addObserver(new MapObserver());
+        addObserver(new ReactiveCollectionObserver());
     }
 
     /**
@@ -35,8 +71,15 @@ public class VueGWTObserverManager
      * observe.
      */
     public static void registerVueGWTObserver(VueGWTObserver observer)
+    {
+        hasCustomObservers = true;
+        addObserver(observer);
+    }
+
+    private static void addObserver(VueGWTObserver observer)
     {
         observers.add(0, observer);
+        observersByClass.clear();
     }
 
     /**
@@ -46,27 +89,94 @@ public class VueGWTObserverManager
      * properties reactive (for some reason), you should return true in your {@link VueGWTObserver}.
      * You are then responsible to call notifyDep on your object {@link VueObserver} and propagate
      * observation to the object property values.
+     * <br>
+     * The observer handling a class is looked up once, with the first instance of this class we
+     * see. It is then tried first for the next instances, and the other observers are only
+     * tried if it declines an instance. Classes declined by all the observers are only
+     * remembered if no custom observer has been registered.
      * @param object The object to potentially observe
      * @return true if we are observing and Vue shouldn't observe, false otherwise
      */
     @JsMethod(namespace = "VueGWT.observerManager")
     private static boolean observeJavaObject(Object object)
     {
+        Class<?> objectClass = object.getClass();
+
         // Ignore pure JS objects
-        if (object.getClass() == JavaScriptObject.class)
+        if (objectClass == JavaScriptObject.class)
             return false;
 
-        // Don't observe Java classes
-        if (object instanceof Class)
+        // Don't observe Java classes, or objects that asked not to be
+        if (object instanceof Class || object instanceof NonReactive)
             return true;
 
         // Check if we have a custom Java observer
+        VueGWTObserver classObserver = observersByClass.get(objectClass);
+        if (classObserver == null)
+            classObserver = findObserver(object, objectClass);
+        else if (classObserver != NO_OBSERVER && !classObserver.observe(object))
+            classObserver = findObserver(object, objectClass);
+
+        if (classObserver != NO_OBSERVER)
+            return true;
+
+        JsConsumer<Object> fieldsInitializer = getFieldsInitializer(objectClass);
+        if (fieldsInitializer != null)
+            fieldsInitializer.accept(object);
+        else
+            makeStaticallyInitializedPropertiesReactive(object);
+        return false;
+    }
+
+    /**
+     * Look for the reactive descriptor generated for a class annotated with
+     * {@link com.axellience.vuegwt.jsr69.data.annotations.ReactiveData}.
+     * @param objectClass The class of the object to observe
+     * @return The function initializing the fields of the instances of this class, or null if
+     * the class has no reactive descriptor
+     */
+    private static JsConsumer<Object> getFieldsInitializer(Class<?> objectClass)
+    {
+        if (fieldsInitializersByClass.containsKey(objectClass))
+            return fieldsInitializersByClass.get(objectClass);
+
+        JsConsumer<Object> fieldsInitializer = null;
+        JsObject VueGWT = (JsObject) JsTools.getWindow().get("VueGWT");
+        JsObject reactiveDescriptors = (JsObject) VueGWT.get("reactiveDescriptors");
+        if (reactiveDescriptors != null)
+        {
+            Object descriptor =
+                reactiveDescriptors.get(objectClass.getCanonicalName().replaceAll("\\.", "_"));
+            if (descriptor != null)
+                fieldsInitializer = JsTools.get(descriptor, "initFields");
+        }
+
+        fieldsInitializersByClass.put(objectClass, fieldsInitializer);
+        return fieldsInitializer;
+    }
+
+    /**
+     * Try all the custom observers on the given object, and remember the one that observed it
+     * for its class.
+     * @param object The object to observe
+     * @param objectClass The class of the object
+     * @return The observer that observed the object, or {@link #NO_OBSERVER} if none did
+     */
+    private static VueGWTObserver findObserver(Object object, Class<?> objectClass)
+    {
+        VueGWTObserver classObserver = NO_OBSERVER;
         for (VueGWTObserver observer : observers)
+        {
             if (observer.observe(object))
-                return true;
+            {
+                classObserver = observer;
+                break;
+            }
+        }
 
-        makeStaticallyInitializedPropertiesReactive(object, object.getClass().getCanonicalName());
-        return false;
+        if (classObserver != NO_OBSERVER || !hasCustomObservers)
+            observersByClass.put(objectClass, classObserver);
+        return classObserver;
     }
 
     /**
@@ -81,6 +191,93 @@ public class VueGWTObserverManager
         return (VueObserver) JsTools.get(object, "__ob__");
     }
 
+    /**
+     * Run the given mutations of observed Collections and Maps as a batch.
+     * Each Collection or Map is notified only once, at the end of the batch, and the items added
+     * to it are observed all at once.
+     * Batches can be nested, notifications are sent at the end of the outermost one.
+     * @param mutations The code mutating the Collections and Maps
+     */
+    public static void batch(Runnable mutations)
+    {
+        batchDepth++;
+        try
+        {
+            mutations.run();
+        }
+        finally
+        {
+            batchDepth--;
+            if (batchDepth == 0)
+                flushBatch();
+        }
+    }
+
+    /**
+     * Notify the dependencies of a changed object and observe the items added to it.
+     * Inside a {@link #batch(Runnable)}, this is delayed until the end of the batch.
+     * @param observer The Vue observer of the object that changed
+     * @param addedItems The items added to the object
+     */
+    public static void notifyDep(VueObserver observer, Object... addedItems)
+    {
+        observeAddedItems(observer, addedItems);
+        notifyDep(observer.getDep());
+    }
+
+    /**
+     * Notify the given dependency.
+     * Inside a {@link #batch(Runnable)}, this is delayed until the end of the batch, and each
+     * dependency is only notified once.
+     * @param dep The dependency to notify
+     */
+    public static void notifyDep(VueDep dep)
+    {
+        if (batchDepth == 0)
+            dep.notifySelf();
+        else
+            batchedDeps.put(dep, dep);
+    }
+
+    /**
+     * Observe the items added to an observed object, without notifying its dependencies.
+     * Inside a {@link #batch(Runnable)}, this is delayed until the end of the batch.
+     * @param observer The Vue observer of the object the items were added to
+     * @param addedItems The items added to the object
+     */
+    public static void observeAddedItems(VueObserver observer, Object... addedItems)
+    {
+        if (addedItems.length == 0)
+            return;
+
+        if (batchDepth == 0)
+        {
+            observer.observeArray(addedItems);
+            return;
+        }
+
+        JsArray<Object> pendingItems = batchedAddedItems.get(observer);
+        if (pendingItems == null)
+        {
+            pendingItems = JsArray.empty();
+            batchedAddedItems.put(observer, pendingItems);
+        }
+
+        for (Object addedItem : addedItems)
+            pendingItems.push(addedItem);
+    }
+
+    private static void flushBatch()
+    {
+        Map<VueObserver, JsArray<Object>> addedItems = batchedAddedItems;
+        Map<VueDep, VueDep> deps = batchedDeps;
+        batchedAddedItems = new IdentityHashMap<>();
+        batchedDeps = new IdentityHashMap<>();
+
+        addedItems.forEach(VueObserver::observeArray);
+        deps.keySet().forEach(VueDep::notifySelf);
+    }
+
     /**
      * Observe the given Object using Vue.js observer.
      * Will call {@link VueGWTObserverManager#observeJavaObject} to check if we have to make
@@ -102,6 +299,46 @@ public class VueGWTObserverManager
     @JsMethod(namespace = "VueGWT.observerManager")
     public static native void observeArray(JsArray objects);
 
+    /**
+     * Mark the given object so Vue never makes its properties reactive, nor the properties of
+     * the objects it references. Useful for large data that is never modified.
+     * <br>
+     * The object can still be set in a reactive property: replacing it will update the
+     * Components using it, but changing its content won't.
+     * Must be called before the object is first seen by Vue.
+     * To do the same for all instances of a type, implement {@link NonReactive}.
+     * @param object The object (or {@link JsArray}) to mark
+     * @param <T> The type of the object
+     * @return The same object
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native <T> T markRaw(T object);
+
+    /**
+     * Create a new Vue.js dependency, to track what depends on something in a finer way than
+     * a whole object.
+     * @return A new dependency
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native VueDep createDep();
+
+    /**
+     * Check if Vue.js is currently collecting dependencies, for example during the render of a
+     * Component or the evaluation of a computed property.
+     * Calling {@link VueDep#depend()} is useless otherwise.
+     * @return true if a watcher is collecting its dependencies
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native boolean isCollectingDependencies();
+
+    /**
+     * Only let the watchers created with $watch or @Watch depend on the given dependency.
+     * Renders and computed properties calling {@link VueDep#depend()} on it are ignored.
+     * @param dep The dependency to restrict
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native void restrictDepToUserWatchers(VueDep dep);
+
     /**
      * Make all properties of the object reactive. It won't call
      * {@link VueGWTObserverManager#observeJavaObject} and will call Vue.js native walk instead.
@@ -124,10 +361,11 @@ public class VueGWTObserverManager
      * Therefore Vue.js don't see those properties when initializing it's observer.
      * To fix the issue, we manually look for those properties and set them explicitly on the
      * object.
+     * The properties to set are only looked up once per class.
+     * This is only used for classes without a reactive descriptor generated from
+     * {@link com.axellience.vuegwt.jsr69.data.annotations.ReactiveData}.
      * @param javaObject The Java object to observe
-     * @param className The Java class name to observe
      */
     @JsMethod(namespace = "VueGWT.observerManager")
-    private native static void makeStaticallyInitializedPropertiesReactive(Object javaObject,
-        String className);
+    private native static void makeStaticallyInitializedPropertiesReactive(Object javaObject);
 }
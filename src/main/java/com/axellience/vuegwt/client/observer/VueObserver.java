@@ -1,7 +1,6 @@
 package com.axellience.vuegwt.client.observer;
 
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
-import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
@@ -14,7 +13,7 @@ import jsinterop.annotations.JsType;
 public class VueObserver
 {
     @JsProperty
-    private Dep dep;
+    private VueDep dep;
 
     public native void observeArray(JsArray array);
     public native void observeArray(Object[] array);
@@ -29,8 +28,8 @@ public class VueObserver
         this.dep.notifySelf();
     }
 
-    private class Dep {
-        @JsMethod(name = "notify")
-        public native void notifySelf();
+    @JsOverlay
+    public final VueDep getDep() {
+        return this.dep;
     }
 }
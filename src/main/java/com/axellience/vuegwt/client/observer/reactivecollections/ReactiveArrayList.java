@@ -0,0 +1,148 @@
+package com.axellience.vuegwt.client.observer.reactivecollections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollections.notifyAdded;
+import static com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollections.notifyChange;
+import static com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollections.notifySplice;
+
+/**
+ * An {@link ArrayList} that notifies Vue of its changes itself.
+ * <br>
+ * Regular Lists are observed by wrapping their mutation methods on each instance. This List
+ * doesn't need any wrapping, which saves memory when observing a lot of them.
+ * <br>
+ * Changes at a given index (add, set, remove) are applied to the array used by v-for to render
+ * this List, instead of copying the whole List again.
+ * @author Adrien Baron
+ */
+public class ReactiveArrayList<E> extends ArrayList<E> implements ReactiveCollection
+{
+    private static final long serialVersionUID = 1L;
+
+    public ReactiveArrayList()
+    {
+        super();
+    }
+
+    public ReactiveArrayList(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveArrayList(Collection<? extends E> collection)
+    {
+        super(collection);
+    }
+
+    @Override
+    public boolean add(E element)
+    {
+        boolean result = super.add(element);
+        notifySplice(this, size() - 1, 0, element);
+        return result;
+    }
+
+    @Override
+    public void add(int index, E element)
+    {
+        super.add(index, element);
+        notifySplice(this, index, 0, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection)
+    {
+        return addAll(size(), collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection)
+    {
+        boolean result = super.addAll(index, collection);
+        notifySplice(this, index, 0, collection.toArray());
+        return result;
+    }
+
+    @Override
+    public E set(int index, E element)
+    {
+        E result = super.set(index, element);
+        notifySplice(this, index, 1, element);
+        return result;
+    }
+
+    @Override
+    public E remove(int index)
+    {
+        E result = super.remove(index);
+        notifySplice(this, index, 1);
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        // Not calling super, it would call remove(int) and notify twice
+        int index = indexOf(object);
+        if (index == -1)
+            return false;
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        // Remove all the items at once, instead of one by one through an Iterator
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return removeIf(item -> !collection.contains(item));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        boolean result = super.removeIf(filter);
+        if (result)
+            notifyChange(this);
+        return result;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int endIndex)
+    {
+        super.removeRange(fromIndex, endIndex);
+        notifySplice(this, fromIndex, endIndex - fromIndex);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator)
+    {
+        super.replaceAll(operator);
+        notifyAdded(this, toArray());
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator)
+    {
+        super.sort(comparator);
+        notifyChange(this);
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        notifyChange(this);
+    }
+}
@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.client.observer.reactivecollections;
+
+/**
+ * Marker for Collections and Maps that notify Vue of their changes themselves.
+ * They are observed by {@link ReactiveCollectionObserver} without wrapping their methods.
+ * @author Adrien Baron
+ */
+public interface ReactiveCollection
+{
+    /**
+     * Make the current Vue watcher depend on the whole content of this collection.
+     * Only needed for collections that track their dependencies in a finer way than the
+     * collection itself, like {@link ReactiveHashMap}.
+     */
+    default void dependOnContent()
+    {
+    }
+}
@@ -0,0 +1,38 @@
+package com.axellience.vuegwt.client.observer.reactivecollections;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.observer.VueObserver;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionArrayView;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This observer is able to observe {@link ReactiveCollection}.
+ * As they notify Vue of their changes themselves, it only has to observe their current content.
+ * @author Adrien Baron
+ */
+public class ReactiveCollectionObserver extends VueGWTObserver
+{
+    @Override
+    public boolean observe(Object object)
+    {
+        if (!(object instanceof ReactiveCollection))
+            return false;
+
+        VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+        if (object instanceof Map)
+        {
+            observer.observeArray(JsArray.from((Map) object));
+            // Reads depend on the keys of the Map, only watchers of the whole Map need this dep
+            VueGWTObserverManager.restrictDepToUserWatchers(observer.getDep());
+        }
+        else
+            observer.observeArray(JsArray.from((Collection) object));
+
+        CollectionArrayView.enableCache(object);
+        return true;
+    }
+}
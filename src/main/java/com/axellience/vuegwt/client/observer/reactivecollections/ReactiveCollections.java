@@ -0,0 +1,60 @@
+package com.axellience.vuegwt.client.observer.reactivecollections;
+
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.observer.VueObserver;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionArrayView;
+
+/**
+ * Change notification shared by the reactive collections.
+ * Collections that are not observed by Vue yet are ignored.
+ * @author Adrien Baron
+ */
+class ReactiveCollections
+{
+    /**
+     * Tell Vue that the given collection changed.
+     * @param collection The collection that changed
+     */
+    static void notifyChange(Object collection)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(collection);
+        if (observer == null)
+            return;
+
+        CollectionArrayView.invalidate(collection);
+        VueGWTObserverManager.notifyDep(observer);
+    }
+
+    /**
+     * Tell Vue that items have been added to the given collection, and observe them.
+     * @param collection The collection that changed
+     * @param addedItems The items added to the collection
+     */
+    static void notifyAdded(Object collection, Object... addedItems)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(collection);
+        if (observer == null)
+            return;
+
+        CollectionArrayView.invalidate(collection);
+        VueGWTObserverManager.notifyDep(observer, addedItems);
+    }
+
+    /**
+     * Tell Vue that the given List changed at a given index, and observe the added items.
+     * The cached array view of the List is updated with the change instead of being dropped.
+     * @param list The List that changed
+     * @param index The index of the change
+     * @param removeCount The number of items removed at this index
+     * @param addedItems The items added at this index
+     */
+    static void notifySplice(Object list, int index, int removeCount, Object... addedItems)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(list);
+        if (observer == null)
+            return;
+
+        CollectionArrayView.splice(list, index, removeCount, addedItems);
+        VueGWTObserverManager.notifyDep(observer, addedItems);
+    }
+}
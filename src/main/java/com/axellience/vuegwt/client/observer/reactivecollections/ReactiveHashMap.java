@@ -0,0 +1,323 @@
+package com.axellience.vuegwt.client.observer.reactivecollections;
+
+import com.axellience.vuegwt.client.observer.VueDep;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.observer.VueObserver;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionArrayView;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link HashMap} that notifies Vue of its changes itself.
+ * <br>
+ * Regular Maps are observed by wrapping their mutation methods on each instance. This Map
+ * doesn't need any wrapping, which saves memory when observing a lot of them.
+ * <br>
+ * Dependencies are tracked per key: a Component calling {@link #get(Object)} is only updated when
+ * this key changes. Iterating on the Map (including with a v-for) depends on all its keys.
+ * Reading a key that is not in the Map depends on all its keys too, so the Map doesn't keep a
+ * dependency for each key ever read.
+ * <br>
+ * Watchers of the Map itself (like {@code @Watch("myMap")}) are notified of every change.
+ * @author Adrien Baron
+ */
+public class ReactiveHashMap<K, V> extends HashMap<K, V> implements ReactiveCollection
+{
+    private static final long serialVersionUID = 1L;
+
+    private transient Map<Object, VueDep> keyDeps;
+    private transient VueDep contentDep;
+
+    public ReactiveHashMap()
+    {
+        super();
+    }
+
+    public ReactiveHashMap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveHashMap(Map<? extends K, ? extends V> map)
+    {
+        super(map);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        dependOnKey(key);
+        return super.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        dependOnKey(key);
+        return super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        dependOnContent();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public int size()
+    {
+        dependOnContent();
+        return super.size();
+    }
+
+    /**
+     * Key and value views, forEach, equals... all iterate on this Set.
+     * Removing through its Iterator and setting the value of its entries don't go through
+     * {@link #remove(Object)} and {@link #put(Object, Object)}, so they are wrapped to notify the
+     * changes.
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        dependOnContent();
+        return new ReactiveEntrySet();
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        V result = super.put(key, value);
+        notifyKeysChange(new Object[] { key }, value);
+        return result;
+    }
+
+    // putAll() and the Map default methods (putIfAbsent, compute...) go through put() and remove()
+
+    @Override
+    public V remove(Object key)
+    {
+        if (!super.containsKey(key))
+            return null;
+
+        V result = super.remove(key);
+        notifyKeyRemoved(key);
+        return result;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function)
+    {
+        super.replaceAll(function);
+        notifyKeysChange(getKeysWithDep(), super.values().toArray());
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        notifyKeysChange(getKeysWithDep());
+        keyDeps = null;
+    }
+
+    @Override
+    public void dependOnContent()
+    {
+        if (!isDependencyCollected())
+            return;
+
+        if (contentDep == null)
+            contentDep = VueGWTObserverManager.createDep();
+        contentDep.depend();
+    }
+
+    private void dependOnKey(Object key)
+    {
+        if (!isDependencyCollected())
+            return;
+
+        // Adding the key notifies the content dep
+        if (!super.containsKey(key))
+        {
+            dependOnContent();
+            return;
+        }
+
+        if (keyDeps == null)
+            keyDeps = new HashMap<>();
+
+        VueDep keyDep = keyDeps.get(key);
+        if (keyDep == null)
+        {
+            keyDep = VueGWTObserverManager.createDep();
+            keyDeps.put(key, keyDep);
+        }
+        keyDep.depend();
+    }
+
+    /**
+     * Only observed Maps read while Vue is collecting dependencies need to be tracked.
+     * @return true if the current read should be tracked
+     */
+    private boolean isDependencyCollected()
+    {
+        return VueGWTObserverManager.isCollectingDependencies()
+            && VueGWTObserverManager.getVueObserver(this) != null;
+    }
+
+    /**
+     * Notify the watchers of the given keys, of the whole content and of the Map itself, and
+     * observe the added values.
+     * @param keys The keys that changed
+     * @param addedValues The values added to the Map
+     */
+    private void notifyKeysChange(Object[] keys, Object... addedValues)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(this);
+        if (observer == null)
+            return;
+
+        CollectionArrayView.invalidate(this);
+        VueGWTObserverManager.notifyDep(observer, addedValues);
+
+        if (contentDep != null)
+            VueGWTObserverManager.notifyDep(contentDep);
+
+        if (keyDeps == null)
+            return;
+
+        for (Object key : keys)
+        {
+            VueDep keyDep = keyDeps.get(key);
+            if (keyDep != null)
+                VueGWTObserverManager.notifyDep(keyDep);
+        }
+    }
+
+    private void notifyKeyRemoved(Object key)
+    {
+        notifyKeysChange(new Object[] { key });
+        if (keyDeps != null)
+            keyDeps.remove(key);
+    }
+
+    private Object[] getKeysWithDep()
+    {
+        if (keyDeps == null)
+            return new Object[0];
+
+        return keyDeps.keySet().toArray();
+    }
+
+    private class ReactiveEntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            Iterator<Entry<K, V>> iterator = ReactiveHashMap.super.entrySet().iterator();
+            return new Iterator<Entry<K, V>>()
+            {
+                private Entry<K, V> last;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next()
+                {
+                    last = iterator.next();
+                    return new ReactiveEntry(last);
+                }
+
+                @Override
+                public void remove()
+                {
+                    Object key = last.getKey();
+                    iterator.remove();
+                    notifyKeyRemoved(key);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object entry)
+        {
+            return ReactiveHashMap.super.entrySet().contains(entry);
+        }
+
+        @Override
+        public boolean remove(Object entry)
+        {
+            // Goes through ReactiveHashMap.remove()
+            return ReactiveHashMap.super.entrySet().remove(entry);
+        }
+
+        @Override
+        public void clear()
+        {
+            ReactiveHashMap.this.clear();
+        }
+
+        @Override
+        public int size()
+        {
+            return ReactiveHashMap.super.size();
+        }
+    }
+
+    private class ReactiveEntry implements Entry<K, V>
+    {
+        private final Entry<K, V> entry;
+
+        private ReactiveEntry(Entry<K, V> entry)
+        {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue()
+        {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V result = entry.setValue(value);
+            notifyKeysChange(new Object[] { entry.getKey() }, value);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return entry.equals(other);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString()
+        {
+            return entry.toString();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.axellience.vuegwt.client.observer.reactivecollections;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import static com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollections.notifyAdded;
+import static com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollections.notifyChange;
+
+/**
+ * A {@link HashSet} that notifies Vue of its changes itself.
+ * <br>
+ * Regular Sets are observed by wrapping their mutation methods on each instance. This Set
+ * doesn't need any wrapping, which saves memory when observing a lot of them.
+ * @author Adrien Baron
+ */
+public class ReactiveHashSet<E> extends HashSet<E> implements ReactiveCollection
+{
+    private static final long serialVersionUID = 1L;
+
+    public ReactiveHashSet()
+    {
+        super();
+    }
+
+    public ReactiveHashSet(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveHashSet(Collection<? extends E> collection)
+    {
+        super(collection);
+    }
+
+    @Override
+    public boolean add(E element)
+    {
+        boolean result = super.add(element);
+        if (result)
+            notifyAdded(this, element);
+        return result;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection)
+    {
+        // Not calling super, it would call add() and notify for each element
+        boolean result = false;
+        for (E element : collection)
+            result |= super.add(element);
+
+        if (result)
+            notifyAdded(this, collection.toArray());
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        boolean result = super.remove(object);
+        if (result)
+            notifyChange(this);
+        return result;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return removeIf(item -> !collection.contains(item));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        // Not using our iterator, it would notify for each removed element
+        boolean result = false;
+        Iterator<E> iterator = super.iterator();
+        while (iterator.hasNext())
+        {
+            if (filter.test(iterator.next()))
+            {
+                iterator.remove();
+                result = true;
+            }
+        }
+
+        if (result)
+            notifyChange(this);
+        return result;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (isEmpty())
+            return;
+
+        super.clear();
+        notifyChange(this);
+    }
+
+    /**
+     * Removing through the Iterator of a HashSet doesn't call {@link #remove(Object)}, so it is
+     * wrapped to notify the removals.
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        Iterator<E> iterator = super.iterator();
+        return new Iterator<E>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next()
+            {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove()
+            {
+                iterator.remove();
+                notifyChange(ReactiveHashSet.this);
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.axellience.vuegwt.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.reactivecollections.ReactiveCollection;
+import com.axellience.vuegwt.client.tools.JsTools;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Give a {@link JsArray} view of Java Collections and Maps for v-for in templates.
+ * <br>
+ * Converting a Collection to a {@link JsArray} copies it. To avoid doing this copy on every
+ * render, the array is cached on Collections and Maps that tell us about every change, like the
+ * {@link ReactiveCollection}s. The cached array is dropped each time the Collection or Map is
+ * modified.
+ * <br>
+ * Other Collections are copied on each call, like with {@link JsArray#from}. This includes the
+ * ones observed by {@link CollectionObserver} and {@link MapObserver}, as they can be modified
+ * without going through the methods they wrap (for example with an Iterator or a subList).
+ * The returned arrays must not be modified.
+ * @author Adrien Baron
+ */
+public class CollectionArrayView
+{
+    private static final String ARRAY_VIEW_PROPERTY = "$$vueGwtArrayView";
+
+    public static <T> JsArray<T> of(Collection<T> collection)
+    {
+        dependOnContent(collection);
+        JsArray<T> arrayView = getCachedArrayView(collection);
+        if (arrayView != null)
+            return arrayView;
+
+        return cacheArrayView(collection, JsArray.from(collection));
+    }
+
+    public static <K, V> JsArray<V> of(Map<K, V> map)
+    {
+        dependOnContent(map);
+        JsArray<V> arrayView = getCachedArrayView(map);
+        if (arrayView != null)
+            return arrayView;
+
+        return cacheArrayView(map, JsArray.from(map));
+    }
+
+    public static <T> JsArray<T> of(JsArray<T> jsArray)
+    {
+        return jsArray;
+    }
+
+    public static <T> JsArray<T> of(T[] array)
+    {
+        return JsArray.from(array);
+    }
+
+    /**
+     * Start caching the array view of the given Collection or Map.
+     * Must only be called once the Collection or Map calls {@link #invalidate(Object)} on
+     * each modification.
+     * @param collection A Collection or a Map
+     */
+    public static void enableCache(Object collection)
+    {
+        JsTools.setObjectProperty(collection, ARRAY_VIEW_PROPERTY, null);
+    }
+
+    /**
+     * Drop the cached array view of the given Collection or Map.
+     * Must be called before notifying Vue of the modification.
+     * @param collection A Collection or a Map
+     */
+    public static void invalidate(Object collection)
+    {
+        JsTools.setObjectProperty(collection, ARRAY_VIEW_PROPERTY, null);
+    }
+
+    /**
+     * Apply a change of the given List to its cached array view, instead of dropping it.
+     * Like {@link #invalidate(Object)}, must be called before notifying Vue of the modification.
+     * @param list The List that changed
+     * @param index The index of the change
+     * @param removeCount The number of items removed at this index
+     * @param addedItems The items added at this index
+     */
+    public static void splice(Object list, int index, int removeCount, Object... addedItems)
+    {
+        JsArray<Object> arrayView = getCachedArrayView(list);
+        if (arrayView != null)
+            arrayView.splice(index, removeCount, addedItems);
+    }
+
+    /**
+     * Reading the cached array doesn't go through the collection methods, so collections
+     * tracking their dependencies finely must be told that their whole content is used.
+     * @param collection A Collection or a Map
+     */
+    private static void dependOnContent(Object collection)
+    {
+        if (collection instanceof ReactiveCollection)
+            ((ReactiveCollection) collection).dependOnContent();
+    }
+
+    private static <T> JsArray<T> getCachedArrayView(Object collection)
+    {
+        return (JsArray<T>) JsTools.getObjectProperty(collection, ARRAY_VIEW_PROPERTY);
+    }
+
+    private static <T> JsArray<T> cacheArrayView(Object collection, JsArray<T> arrayView)
+    {
+        // Only cache if the collection tells us when it changes
+        if (JsTools.objectHasProperty(collection, ARRAY_VIEW_PROPERTY))
+            JsTools.setObjectProperty(collection, ARRAY_VIEW_PROPERTY, arrayView);
+
+        return arrayView;
+    }
+}
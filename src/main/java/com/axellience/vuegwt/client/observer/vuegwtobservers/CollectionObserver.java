@@ -46,23 +46,23 @@ public class CollectionObserver extends VueGWTObserver
         observer.observeArray(JsArray.from(list));
 
         AfterMethodCall<List> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+            ((object, methodName, result, arguments) -> notifyChange(observer));
 
         wrapMethod(list, "clear", callObserver);
         wrapMethod(list, "remove", callObserver);
         wrapMethod(list, "removeAll", callObserver);
         wrapMethod(list, "retainAll", callObserver);
         wrapMethod(list, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(arguments);
+            notifyChange(observer, arguments);
         }));
         wrapMethod(list, "addAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(((Collection) arguments[0]).toArray());
+            notifyChange(observer, ((Collection) arguments[0]).toArray());
         }));
         wrapMethod(list, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
+            notifyChange(observer, new Object[] { arguments[1] });
+        }));
+        wrapMethod(list, "set", ((object, methodName, result, arguments) -> {
+            notifyChange(observer, new Object[] { arguments[1] });
         }));
     }
 
@@ -72,19 +72,27 @@ public class CollectionObserver extends VueGWTObserver
         observer.observeArray(JsArray.from(set));
 
         AfterMethodCall<Set> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+            ((object, methodName, result, arguments) -> notifyChange(observer));
 
         wrapMethod(set, "clear", callObserver);
         wrapMethod(set, "remove", callObserver);
         wrapMethod(set, "removeAll", callObserver);
         wrapMethod(set, "retainAll", callObserver);
         wrapMethod(set, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(arguments);
+            notifyChange(observer, arguments);
         }));
         wrapMethod(set, "addAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(((Collection) arguments[0]).toArray());
+            notifyChange(observer, ((Collection) arguments[0]).toArray());
         }));
     }
+
+    /**
+     * Tell Vue that the given collection changed.
+     * @param observer The Vue observer of the collection
+     * @param addedItems The items added to the collection, to observe
+     */
+    private void notifyChange(VueObserver observer, Object... addedItems)
+    {
+        VueGWTObserverManager.notifyDep(observer, addedItems);
+    }
 }
@@ -38,27 +38,33 @@ public class MapObserver extends VueGWTObserver
         observer.observeArray(JsArray.from(map));
 
         AfterMethodCall<Map> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+            ((object, methodName, result, arguments) -> notifyChange(observer));
 
         wrapMethod(map, "clear", callObserver);
         wrapMethod(map, "remove", callObserver);
 
         wrapMethod(map, "put", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
+            notifyChange(observer, new Object[] { arguments[1] });
         }));
         wrapMethod(map, "putIfAbsent", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
+            notifyChange(observer, new Object[] { arguments[1] });
         }));
         wrapMethod(map, "putAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(JsArray.from(((Map) arguments[0])));
+            notifyChange(observer, ((Map) arguments[0]).values().toArray());
         }));
 
         wrapMethod(map, "replace", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1], arguments[2] });
+            notifyChange(observer, new Object[] { arguments[1], arguments[2] });
         }));
     }
+
+    /**
+     * Tell Vue that the given map changed.
+     * @param observer The Vue observer of the map
+     * @param addedItems The items added to the map, to observe
+     */
+    private void notifyChange(VueObserver observer, Object... addedItems)
+    {
+        VueGWTObserverManager.notifyDep(observer, addedItems);
+    }
 }
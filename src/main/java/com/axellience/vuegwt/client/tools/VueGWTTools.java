@@ -5,6 +5,7 @@ import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.client.directive.VueDirective;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.google.gwt.regexp.shared.RegExp;
 import jsinterop.annotations.JsMethod;
@@ -44,6 +45,30 @@ public class VueGWTTools
 
     public static native <T> JsArray<T> javaArrayToJsArray(Object[] javaArray);
 
+    /**
+     * Wrap a template expression method to cache its results for each Component instance and
+     * each value of its parameters. A cached result is computed again when one of its reactive
+     * dependencies changes, and dropped when it's not used during a render.
+     * @param expressionMethod The template expression method
+     * @return The memoized method
+     */
+    public static native Object memoizeTemplateExpression(Object expressionMethod);
+
+    /**
+     * Wrap the render function of a functional Component.
+     * Vue.js calls it with the props and context of the Component, while our render functions
+     * expect to be called on a Component instance. It is called on an object inheriting from the
+     * given prototype instead, with the props, the template styles, the Vue.js render helpers and
+     * the computed template expressions.
+     * @param componentOptions The options of the functional Component
+     * @param renderPrototype The prototype of the object the render function is called on
+     * @param styles The styles of the Component template, by name
+     * @param <T> The type of the functional Component
+     * @return The render function to pass to Vue.js
+     */
+    public static native <T extends VueComponent> Object createFunctionalRender(
+        VueComponentOptions<T> componentOptions, Object renderPrototype, JsObject styles);
+
     /**
      * Return the default name to register a component based on it's class name.
      * The name of the tag is the name of the component converted to kebab-case.
@@ -8,11 +8,12 @@ import jsinterop.annotations.JsFunction;
  * VueJsConstructor}.
  * Using this async mechanism allows us to have cylces in component definitions (which is supported
  * by Vue.js) even when injecting the dependencies with Gin.
+ * If the value can't be provided, the reject function is called with the reason instead.
  * @author Adrien Baron
  */
 @JsFunction
 @FunctionalInterface
 public interface VueJsAsyncProvider<T>
 {
-    void run(JsConsumer<T> resolve);
+    void run(JsConsumer<T> resolve, JsConsumer<Throwable> reject);
 }
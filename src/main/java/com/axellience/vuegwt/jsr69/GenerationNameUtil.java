@@ -25,6 +25,8 @@ public class GenerationNameUtil
 
     private static String DIRECTIVE_OPTIONS_SUFFIX = "Options";
 
+    private static String REACTIVE_DESCRIPTOR_SUFFIX = "ReactiveDescriptor";
+
     public static ClassName componentJsTypeName(TypeElement component)
     {
         return nameWithSuffix(component, COMPONENT_JS_TYPE_SUFFIX);
@@ -85,6 +87,11 @@ public class GenerationNameUtil
         return nameWithSuffix(directive, DIRECTIVE_OPTIONS_SUFFIX);
     }
 
+    public static ClassName reactiveDescriptorName(TypeElement dataType)
+    {
+        return nameWithSuffix(dataType, REACTIVE_DESCRIPTOR_SUFFIX);
+    }
+
     public static ClassName nameWithSuffix(TypeElement type, String suffix)
     {
         return nameWithSuffix(type.getQualifiedName().toString(), suffix);
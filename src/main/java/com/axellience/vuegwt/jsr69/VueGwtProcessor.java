@@ -6,6 +6,8 @@ import com.axellience.vuegwt.jsr69.component.annotations.JsComponent;
 import com.axellience.vuegwt.jsr69.component.factory.VueComponentFactoryGenerator;
 import com.axellience.vuegwt.jsr69.component.factory.VueJsComponentFactoryGenerator;
 import com.axellience.vuegwt.jsr69.component.template.TemplateBundleGenerator;
+import com.axellience.vuegwt.jsr69.data.ReactiveDataDescriptorGenerator;
+import com.axellience.vuegwt.jsr69.data.annotations.ReactiveData;
 import com.axellience.vuegwt.jsr69.directive.VueDirectiveOptionsGenerator;
 import com.axellience.vuegwt.jsr69.directive.annotations.Directive;
 import com.axellience.vuegwt.jsr69.style.StyleProviderGenerator;
@@ -15,11 +17,14 @@ import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.hasTemplate;
@@ -29,8 +34,12 @@ import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.hasT
     "com.axellience.vuegwt.jsr69.component.annotations.JsComponent",
     "com.axellience.vuegwt.jsr69.directive.annotations.Directive",
     "com.axellience.vuegwt.jsr69.style.annotations.Style",
+    "com.axellience.vuegwt.jsr69.data.annotations.ReactiveData",
     "com.axellience.vuegwt.jsr69.inject.annotations.VueInjector"
 })
+@SupportedOptions({
+    TemplateBundleGenerator.COMPILE_TEMPLATES_OPTION, TemplateBundleGenerator.STRIP_WITH_OPTION
+})
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class VueGwtProcessor extends AbstractProcessor
 {
@@ -44,6 +53,7 @@ public class VueGwtProcessor extends AbstractProcessor
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
     {
         this.processStyleAnnotations(roundEnv);
+        this.processReactiveDataAnnotations(roundEnv);
         this.processDirectiveAnnotations(roundEnv);
         this.processComponentAnnotations(roundEnv);
         this.processJsComponentAnnotations(roundEnv);
@@ -63,6 +73,19 @@ public class VueGwtProcessor extends AbstractProcessor
         }
     }
 
+    private void processReactiveDataAnnotations(RoundEnvironment roundEnv)
+    {
+        Set<? extends Element> annotatedElements =
+            roundEnv.getElementsAnnotatedWith(ReactiveData.class);
+
+        ReactiveDataDescriptorGenerator reactiveDataDescriptorGenerator =
+            new ReactiveDataDescriptorGenerator(processingEnv);
+        for (TypeElement element : ElementFilter.typesIn(annotatedElements))
+        {
+            reactiveDataDescriptorGenerator.generate(element);
+        }
+    }
+
     private void processDirectiveAnnotations(RoundEnvironment roundEnv)
     {
         Set<? extends Element> annotatedElements =
@@ -88,15 +111,19 @@ public class VueGwtProcessor extends AbstractProcessor
         VueComponentFactoryGenerator vueFactoryGenerator =
             new VueComponentFactoryGenerator(processingEnv);
 
+        List<TypeElement> componentsWithTemplate = new ArrayList<>();
         for (TypeElement componentType : ElementFilter.typesIn(componentElements))
         {
             if (hasTemplate(processingEnv, componentType))
             {
-                templateBundleGenerator.generate(componentType);
+                componentsWithTemplate.add(componentType);
             }
             vueFactoryGenerator.generate(componentType);
             componentJsTypeGenerator.generate(componentType);
         }
+
+        // Templates are generated together, so they can be compiled at once
+        templateBundleGenerator.generate(componentsWithTemplate);
     }
 
     private void processJsComponentAnnotations(RoundEnvironment roundEnv)
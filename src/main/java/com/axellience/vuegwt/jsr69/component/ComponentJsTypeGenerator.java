@@ -9,6 +9,7 @@ import com.axellience.vuegwt.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.client.component.options.computed.ComputedKind;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.axellience.vuegwt.client.vnode.VNode;
 import com.axellience.vuegwt.client.vnode.builder.CreateElementFunction;
@@ -30,6 +31,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsType;
 
 import javax.annotation.processing.Filer;
@@ -66,6 +68,8 @@ import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.*;
  */
 public class ComponentJsTypeGenerator
 {
+    private static final String DATA_FACTORY_METHOD_NAME = "vuegwt$createData";
+
     private final ProcessingEnvironment processingEnv;
     private final Filer filer;
     private final Messager messager;
@@ -95,16 +99,53 @@ public class ComponentJsTypeGenerator
 
         Set<ExecutableElement> hookMethodsFromInterfaces = getHookMethodsFromInterfaces(component);
 
-        processData(component, optionsBuilder);
+        if (component.getAnnotation(Component.class).async()
+            && dependenciesBuilder.hasDependencies())
+        {
+            messager.printMessage(Kind.ERROR,
+                "Async VueComponent "
+                    + component.getQualifiedName().toString()
+                    + " can't have injected dependencies, as it is always created from its static factory.",
+                component);
+        }
+
+        if (!component.getAnnotation(Component.class).async()
+            && component.getAnnotation(Component.class).prefetchPriority() > 0)
+        {
+            messager.printMessage(Kind.WARNING,
+                "VueComponent "
+                    + component.getQualifiedName().toString()
+                    + " has a prefetchPriority but isn't async, it will be ignored.",
+                component);
+        }
+
+        boolean isFunctional = component.getAnnotation(Component.class).functional();
+        if (isFunctional)
+            validateFunctionalComponent(component, hookMethodsFromInterfaces, dependenciesBuilder);
+
+        if (!isFunctional)
+            processData(component, optionsBuilder, componentJsTypeBuilder);
         processProps(component, optionsBuilder);
-        processComputed(component, optionsBuilder, componentJsTypeBuilder);
-        processWatchers(component, optionsBuilder, componentJsTypeBuilder);
+        if (!isFunctional)
+        {
+            processComputed(component, optionsBuilder, componentJsTypeBuilder);
+            processWatchers(component, optionsBuilder, componentJsTypeBuilder);
+        }
         processPropValidators(component, optionsBuilder, componentJsTypeBuilder);
         processPropDefaultValues(component, optionsBuilder, componentJsTypeBuilder);
-        processHooks(component, optionsBuilder, hookMethodsFromInterfaces);
+        if (!isFunctional)
+            processHooks(component, optionsBuilder, hookMethodsFromInterfaces);
         processTemplateMethods(component, optionsBuilder, hookMethodsFromInterfaces);
         processRenderFunction(component, optionsBuilder, componentJsTypeBuilder);
-        createCreatedHook(component, optionsBuilder, componentJsTypeBuilder, dependenciesBuilder);
+
+        // Functional components don't have instances to create
+        if (isFunctional)
+            optionsBuilder.addStatement("options.initFunctional()");
+        else
+            createCreatedHook(component,
+                optionsBuilder,
+                componentJsTypeBuilder,
+                dependenciesBuilder);
 
         // Finish building Options getter
         optionsBuilder.addStatement("return options");
@@ -142,14 +183,36 @@ public class ComponentJsTypeGenerator
             .build());
 
         // Add a block that registers the VueFactory for the VueComponent
-        componentJsTypeBuilder.addStaticBlock(CodeBlock
-            .builder()
-            .addStatement("$T.onReady(() -> $T.register($S, () -> $T.get()))",
+        // Async Components are only registered with a method loading them, so they are not
+        // referenced from the initial code
+        Component componentAnnotation = component.getAnnotation(Component.class);
+        CodeBlock.Builder registerBlock = CodeBlock.builder();
+        if (!componentAnnotation.async())
+        {
+            registerBlock.addStatement("$T.onReady(() -> $T.register($S, () -> $T.get()))",
                 VueGWT.class,
                 VueGWT.class,
                 component.getQualifiedName(),
-                componentFactoryName(component))
-            .build());
+                componentFactoryName(component));
+        }
+        else if (componentAnnotation.prefetchPriority() > 0)
+        {
+            registerBlock.addStatement("$T.onReady(() -> $T.registerAsync($S, $T::getAsync, $L))",
+                VueGWT.class,
+                VueGWT.class,
+                component.getQualifiedName(),
+                componentFactoryName(component),
+                componentAnnotation.prefetchPriority());
+        }
+        else
+        {
+            registerBlock.addStatement("$T.onReady(() -> $T.registerAsync($S, $T::getAsync))",
+                VueGWT.class,
+                VueGWT.class,
+                component.getQualifiedName(),
+                componentFactoryName(component));
+        }
+        componentJsTypeBuilder.addStaticBlock(registerBlock.build());
 
         return componentJsTypeBuilder;
     }
@@ -174,6 +237,10 @@ public class ComponentJsTypeGenerator
 
         Component annotation = component.getAnnotation(Component.class);
 
+        // Exporting the options would keep the code of async Components in the initial download
+        if (annotation.async())
+            optionsMethodBuilder.addAnnotation(JsIgnore.class);
+
         if (!"".equals(annotation.name()))
             optionsMethodBuilder.addStatement("options.setName($S)", annotation.name());
 
@@ -192,13 +259,62 @@ public class ComponentJsTypeGenerator
         return optionsMethodBuilder;
     }
 
+    /**
+     * Check that a functional {@link VueComponent} doesn't use anything that requires an
+     * instance.
+     * @param component The functional {@link VueComponent} to check
+     * @param hookMethodsFromInterfaces Hook methods from the interface the {@link VueComponent}
+     * implements
+     * @param dependenciesBuilder Builder for our component dependencies
+     */
+    private void validateFunctionalComponent(TypeElement component,
+        Set<ExecutableElement> hookMethodsFromInterfaces,
+        ComponentInjectedDependenciesBuilder dependenciesBuilder)
+    {
+        boolean hasData = ElementFilter
+            .fieldsIn(component.getEnclosedElements())
+            .stream()
+            .filter(ComponentGenerationUtil::isFieldVisibleInJS)
+            .anyMatch(field -> field.getAnnotation(Prop.class) == null);
+        boolean hasHooks = ElementFilter
+            .methodsIn(component.getEnclosedElements())
+            .stream()
+            .anyMatch(method -> isHookMethod(component, method, hookMethodsFromInterfaces));
+
+        if (hasData)
+            printFunctionalComponentError(component, "data fields");
+        if (getMethodsWithAnnotation(component, Computed.class).findAny().isPresent())
+            printFunctionalComponentError(component, "computed properties");
+        if (getMethodsWithAnnotation(component, Watch.class).findAny().isPresent())
+            printFunctionalComponentError(component, "watchers");
+        if (hasHooks)
+            printFunctionalComponentError(component, "hook methods");
+        if (dependenciesBuilder.hasDependencies())
+            printFunctionalComponentError(component, "injected dependencies");
+    }
+
+    private void printFunctionalComponentError(TypeElement component, String feature)
+    {
+        messager.printMessage(Kind.ERROR,
+            "Functional VueComponent "
+                + component.getQualifiedName().toString()
+                + " can't have "
+                + feature
+                + ", as it doesn't have instances.",
+            component);
+    }
+
     /**
      * Process data fields from the {@link VueComponent} Class.
+     * If the Component uses a factory for its data model, a method creating the data object of
+     * each instance is also generated.
      * @param component {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
+     * @param componentJsTypeBuilder Builder for the JsType class
      */
-    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder)
+    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder,
+        Builder componentJsTypeBuilder)
     {
         Component annotation = component.getAnnotation(Component.class);
 
@@ -219,8 +335,30 @@ public class ComponentJsTypeGenerator
             .map(fieldName -> "\"" + fieldName + "\"")
             .collect(Collectors.joining(", "));
 
-        optionsBuilder.addStatement("options.initData($L, $L)",
-            annotation.useFactory(),
+        if (!annotation.useFactory())
+        {
+            optionsBuilder.addStatement("options.initData(false, null, $L)", fieldNamesParameters);
+            return;
+        }
+
+        MethodSpec.Builder createDataMethodBuilder = MethodSpec
+            .methodBuilder(DATA_FACTORY_METHOD_NAME)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .returns(JsObject.class)
+            .addParameter(JsObject.class, "defaultValues")
+            .addStatement("$T data = new $T()", JsObject.class, JsObject.class);
+        for (String fieldName : fieldsName)
+        {
+            createDataMethodBuilder.addStatement("data.set($S, defaultValues.get($S))",
+                fieldName,
+                fieldName);
+        }
+        createDataMethodBuilder.addStatement("return data");
+        componentJsTypeBuilder.addMethod(createDataMethodBuilder.build());
+
+        optionsBuilder.addStatement("options.initData(true, $T::$L, $L)",
+            componentJsTypeName(component),
+            DATA_FACTORY_METHOD_NAME,
             fieldNamesParameters);
     }
 
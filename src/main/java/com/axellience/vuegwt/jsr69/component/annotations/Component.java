@@ -53,4 +53,30 @@ public @interface Component
      * @return true if has a html template, false otherwise
      */
     boolean hasTemplate() default true;
+
+    /**
+     * Make the component functional.
+     * A functional component doesn't have instances: its template or render function is called
+     * directly with its props. It can't have data, computed properties, watchers, hooks or
+     * injected dependencies.
+     * @return true if the component is functional, false otherwise
+     */
+    boolean functional() default false;
+
+    /**
+     * Load the component asynchronously, in its own GWT code split point.
+     * Its code is only downloaded the first time it's used, as a local component or with
+     * VueGWT.getFactoryAsync(). It can't have injected dependencies, as it's always created
+     * from its static factory.
+     * @return true if the component is loaded asynchronously, false otherwise
+     */
+    boolean async() default false;
+
+    /**
+     * Only for async components. If greater than 0, the component is loaded in the background
+     * once Vue GWT is ready, when the browser is idle, instead of waiting for its first use.
+     * Components with a higher priority are loaded first.
+     * @return The prefetch priority of the component, 0 to not prefetch it
+     */
+    int prefetchPriority() default 0;
 }
\ No newline at end of file
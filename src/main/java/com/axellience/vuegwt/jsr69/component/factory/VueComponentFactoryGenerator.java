@@ -1,21 +1,28 @@
 package com.axellience.vuegwt.jsr69.component.factory;
 
 import com.axellience.vuegwt.client.Vue;
+import com.axellience.vuegwt.client.VueGWT;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.CustomizeOptions;
 import com.axellience.vuegwt.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.client.directive.options.VueDirectiveOptions;
+import com.axellience.vuegwt.client.jsnative.jsfunctions.JsConsumer;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.vue.VueFactory;
 import com.axellience.vuegwt.client.vue.VueJsAsyncProvider;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.axellience.vuegwt.jsr69.GenerationNameUtil;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
+import com.squareup.javapoet.WildcardTypeName;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.inject.Inject;
@@ -101,9 +108,67 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
         MethodSpec initMethod = initBuilder.build();
         vueFactoryClassBuilder.addMethod(initMethod);
 
+        if (componentAnnotation.async())
+            createStaticGetAsyncMethod(component, vueFactoryClassBuilder);
+
         return initParametersCall;
     }
 
+    /**
+     * Create a static method to load an async {@link VueComponent} in its own split point, and
+     * then retrieve an instance of our Factory.
+     * Like the static get method, Factory retrieved using this method do NOT support injection.
+     * Once loaded, the Factory is registered in {@link VueGWT}, so it can be retrieved with
+     * {@link VueGWT#getFactory(Class)}.
+     * The time spent loading the Component is recorded in {@link VueGWT}. If its code can't be
+     * loaded, the failure callback is called instead.
+     * @param component The Component we generate for
+     * @param vueFactoryClassBuilder The builder of the VueFactory we are generating
+     */
+    private void createStaticGetAsyncMethod(TypeElement component,
+        Builder vueFactoryClassBuilder)
+    {
+        ClassName vueFactoryClassName = componentFactoryName(component);
+        TypeSpec runAsyncCallback = TypeSpec
+            .anonymousClassBuilder("")
+            .addSuperinterface(RunAsyncCallback.class)
+            .addMethod(MethodSpec
+                .methodBuilder("onFailure")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Throwable.class, "reason")
+                .addStatement("failureCallback.accept(new $T($S, reason))",
+                    RuntimeException.class,
+                    "Couldn't load the async Component " + component.getQualifiedName())
+                .build())
+            .addMethod(MethodSpec
+                .methodBuilder("onSuccess")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("double factoryInitStart = $T.currentTimeMillis()", Duration.class)
+                .addStatement("$T factory = get()", vueFactoryClassName)
+                .addStatement("$T.register($S, factory)", VueGWT.class, component.getQualifiedName())
+                .addStatement("$T.recordAsyncComponentLoad($S, factoryInitStart - loadStart, "
+                        + "$T.currentTimeMillis() - factoryInitStart)",
+                    VueGWT.class,
+                    component.getQualifiedName(),
+                    Duration.class)
+                .addStatement("callback.accept(factory)")
+                .build())
+            .build();
+
+        vueFactoryClassBuilder.addMethod(MethodSpec
+            .methodBuilder("getAsync")
+            .addModifiers(Modifier.STATIC, Modifier.PUBLIC)
+            .addParameter(ParameterizedTypeName.get(ClassName.get(JsConsumer.class),
+                WildcardTypeName.supertypeOf(vueFactoryClassName)), "callback")
+            .addParameter(ParameterizedTypeName.get(JsConsumer.class, Throwable.class),
+                "failureCallback")
+            .addStatement("double loadStart = $T.currentTimeMillis()", Duration.class)
+            .addStatement("$T.runAsync($T.class, $L)", GWT.class, component, runAsyncCallback)
+            .build());
+    }
+
     /**
      * Register the {@link VueComponent} dependencies provider.
      * <br>
@@ -151,17 +216,29 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
 
         localComponents.forEach(localComponent -> {
             ClassName factory = componentFactoryName(localComponent);
+            String tagName = componentToTagName(((DeclaredType) localComponent)
+                .asElement()
+                .getSimpleName()
+                .toString());
+
+            // Async Components are only loaded when Vue.js needs them
+            Component localComponentAnnotation =
+                ((DeclaredType) localComponent).asElement().getAnnotation(Component.class);
+            if (localComponentAnnotation != null && localComponentAnnotation.async())
+            {
+                injectDependenciesBuilder.addStatement(
+                    "components.set($S, (render, reject) -> $T.getAsync(factory -> render.accept(factory.getJsConstructor()), reject))",
+                    tagName,
+                    factory);
+                return;
+            }
 
             String parameterName = factory.reflectionName().replaceAll("\\.", "_");
             injectDependenciesBuilder.addParameter(providerOf(factory), parameterName);
             staticInitParameters.add(CodeBlock.of("() -> $T.get()", factory));
 
-            String tagName = componentToTagName(((DeclaredType) localComponent)
-                .asElement()
-                .getSimpleName()
-                .toString());
             injectDependenciesBuilder.addStatement(
-                "components.set($S, render -> render.accept($L.get().getJsConstructor()))",
+                "components.set($S, (render, reject) -> render.accept($L.get().getJsConstructor()))",
                 tagName,
                 parameterName);
         });
@@ -3,36 +3,223 @@ package com.axellience.vuegwt.jsr69.component.template;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.jsr69.GenerationUtil;
+import com.axellience.vuegwt.template.TemplateProcessor;
+import com.axellience.vuegwt.template.TemplateProcessor.TemplateSource;
+import com.axellience.vuegwt.template.TemplateResourceWriter;
+import com.axellience.vuegwt.template.cache.CachedTemplate;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
 import com.google.gwt.resources.client.ClientBundle;
+import com.google.gwt.user.rebind.SourceWriter;
+import com.google.gwt.user.rebind.StringSourceWriter;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeSpec.Builder;
 
 import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.axellience.vuegwt.jsr69.GenerationNameUtil.COMPONENT_TEMPLATE_BUNDLE_METHOD_NAME;
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.componentJsTypeName;
 import static com.axellience.vuegwt.jsr69.GenerationNameUtil.componentTemplateBundleName;
 
 /**
  * Generate the GWT {@link ClientBundle} containing the template for our {@link VueComponent}.
+ * <br>
+ * If the "vuegwt.compileTemplatesInProcessor" annotation processor option is set to true, the
+ * templates are instead parsed and compiled right away, all at once. A plain Java class with the same API as the
+ * {@link ClientBundle} is then generated, so GWT doesn't have any work to do on templates.
  * @author Adrien Baron
  */
 public class TemplateBundleGenerator
 {
+    public static final String COMPILE_TEMPLATES_OPTION = "vuegwt.compileTemplatesInProcessor";
+    public static final String STRIP_WITH_OPTION = "vuegwt.template.stripWith";
+
     private final Filer filer;
+    private final Messager messager;
+    private final Elements elements;
+    private final boolean compileTemplates;
+    private final boolean stripWith;
 
     public TemplateBundleGenerator(ProcessingEnvironment processingEnvironment)
     {
         filer = processingEnvironment.getFiler();
+        messager = processingEnvironment.getMessager();
+        elements = processingEnvironment.getElementUtils();
+        compileTemplates = Boolean.parseBoolean(processingEnvironment
+            .getOptions()
+            .getOrDefault(COMPILE_TEMPLATES_OPTION, "false"));
+        stripWith = Boolean.parseBoolean(processingEnvironment
+            .getOptions()
+            .getOrDefault(STRIP_WITH_OPTION, "true"));
+    }
+
+    /**
+     * Generate the template bundles for the given {@link VueComponent}s.
+     * When compiling templates in the annotation processor, they are all compiled at once.
+     * @param componentTypeElements The {@link VueComponent}s with a template
+     */
+    public void generate(Collection<TypeElement> componentTypeElements)
+    {
+        if (compileTemplates)
+        {
+            generateCompiledTemplateBundles(componentTypeElements);
+            return;
+        }
+
+        for (TypeElement componentTypeElement : componentTypeElements)
+        {
+            GenerationUtil.generateGwtBundle(componentTypeElement,
+                componentTemplateBundleName(componentTypeElement),
+                COMPONENT_TEMPLATE_BUNDLE_METHOD_NAME,
+                TypeName.get(TemplateResource.class),
+                "html",
+                filer);
+        }
+    }
+
+    /**
+     * Parse and compile the templates of our {@link VueComponent}s, and generate for each a class
+     * returning the resulting {@link TemplateResource}.
+     * @param components The {@link VueComponent}s we are generating for
+     */
+    private void generateCompiledTemplateBundles(Collection<TypeElement> components)
+    {
+        Map<String, TypeElement> componentsByName = new LinkedHashMap<>();
+        Map<String, TemplateSource> templates = new LinkedHashMap<>();
+        for (TypeElement component : components)
+        {
+            String componentName = component.getQualifiedName().toString();
+            String templateContent = readTemplate(component);
+            if (templateContent == null)
+            {
+                messager.printMessage(Kind.ERROR,
+                    "Couldn't find template for component \""
+                        + componentName
+                        + "\". If it doesn't have a template please set hasTemplate to false in the @Component annotation.",
+                    component);
+                continue;
+            }
+
+            componentsByName.put(componentName, component);
+            templates.put(componentName,
+                new TemplateSource(templateContent, new TemplateParserContext(component)));
+        }
+
+        if (templates.isEmpty())
+            return;
+
+        Map<String, CachedTemplate> processedTemplates;
+        try
+        {
+            VueTemplateCompiler vueTemplateCompiler =
+                new VueTemplateCompiler(getClass().getClassLoader(), stripWith);
+            processedTemplates = TemplateProcessor.processAll(templates,
+                vueTemplateCompiler,
+                (componentName, e) -> messager.printMessage(Kind.ERROR,
+                    e.getMessage(),
+                    componentsByName.get(componentName)));
+        }
+        catch (VueTemplateCompilerException e)
+        {
+            messager.printMessage(Kind.ERROR, e.getMessage());
+            return;
+        }
+
+        processedTemplates.forEach((componentName, processedTemplate) ->
+            generateCompiledTemplateBundle(componentsByName.get(componentName), processedTemplate));
     }
 
-    public void generate(TypeElement componentTypeElement)
+    /**
+     * Generate a class returning the {@link TemplateResource} for a processed template.
+     * @param component The {@link VueComponent} we are generating for
+     * @param processedTemplate The result of the template parser and compiler for this component
+     */
+    private void generateCompiledTemplateBundle(TypeElement component,
+        CachedTemplate processedTemplate)
     {
-        GenerationUtil.generateGwtBundle(componentTypeElement,
-            componentTemplateBundleName(componentTypeElement),
+        ClassName bundleClassName = componentTemplateBundleName(component);
+        ClassName componentJsTypeName = componentJsTypeName(component);
+
+        SourceWriter sw = new StringSourceWriter();
+        TemplateResourceWriter.write(sw,
             COMPONENT_TEMPLATE_BUNDLE_METHOD_NAME,
-            TypeName.get(TemplateResource.class),
-            "html",
-            filer);
+            componentJsTypeName.toString(),
+            processedTemplate.getParserResult(),
+            processedTemplate.getCompilerResult());
+
+        Builder bundleClassBuilder = TypeSpec
+            .classBuilder(bundleClassName)
+            .addModifiers(Modifier.PUBLIC);
+
+        bundleClassBuilder.addField(FieldSpec
+            .builder(bundleClassName, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .initializer("new $T()", bundleClassName)
+            .build());
+
+        // Like a GWT ClientBundle, always return the same resource instance
+        bundleClassBuilder.addField(componentJsTypeName, "templateResource", Modifier.PRIVATE);
+        bundleClassBuilder.addMethod(MethodSpec
+            .methodBuilder(COMPONENT_TEMPLATE_BUNDLE_METHOD_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(componentJsTypeName)
+            .beginControlFlow("if (templateResource == null)")
+            .addStatement("templateResource = $L", sw.toString().trim())
+            .endControlFlow()
+            .addStatement("return templateResource")
+            .build());
+
+        GenerationUtil.toJavaFile(filer, bundleClassBuilder, bundleClassName, component);
+    }
+
+    /**
+     * Read the HTML template of a {@link VueComponent}. The template is looked up next to the
+     * Java class, in the source path first and then in the class path.
+     * @param component The {@link VueComponent} to get the template of
+     * @return The content of the template, or null if it couldn't be found
+     */
+    private String readTemplate(TypeElement component)
+    {
+        String packageName = elements.getPackageOf(component).getQualifiedName().toString();
+        String qualifiedName = component.getQualifiedName().toString();
+        int packageNameLength = packageName.isEmpty() ? 0 : packageName.length() + 1;
+        String relativeName =
+            qualifiedName.substring(packageNameLength).replaceAll("\\.", "/") + ".html";
+
+        StandardLocation[] locations = {
+            StandardLocation.SOURCE_PATH,
+            StandardLocation.CLASS_PATH,
+            StandardLocation.CLASS_OUTPUT
+        };
+        for (StandardLocation location : locations)
+        {
+            try
+            {
+                FileObject resource = filer.getResource(location, packageName, relativeName);
+                return resource.getCharContent(true).toString();
+            }
+            catch (IOException | IllegalArgumentException e)
+            {
+                // Not in this location, try the next one
+            }
+        }
+
+        return null;
     }
 }
@@ -0,0 +1,149 @@
+package com.axellience.vuegwt.jsr69.data;
+
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.jsr69.GenerationNameUtil;
+import com.axellience.vuegwt.jsr69.GenerationUtil;
+import com.axellience.vuegwt.jsr69.data.annotations.ReactiveData;
+import com.google.gwt.core.client.UnsafeNativeLong;
+import com.google.gwt.user.rebind.SourceWriter;
+import com.google.gwt.user.rebind.StringSourceWriter;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsType;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.function.Consumer;
+
+/**
+ * Generate the reactive descriptor of a {@link ReactiveData} class.
+ * <br>
+ * GWT define the default value of fields on the prototype of the class instead of on the
+ * instances, which hide them from Vue.js observer. The descriptor sets all the instance fields of
+ * the class and its parents explicitly on an instance, so {@link VueGWTObserverManager} doesn't
+ * have to scan the prototype for them. Field names are obfuscated by GWT, so this is done in JSNI.
+ * <br>
+ * Transient fields are not set on the instance, so they are only observed if the class sets them
+ * itself.
+ * @author Adrien Baron
+ */
+public class ReactiveDataDescriptorGenerator
+{
+    public static final String INIT_FIELDS_METHOD_NAME = "initFields";
+
+    private final Elements elementsUtils;
+    private final Filer filer;
+
+    public ReactiveDataDescriptorGenerator(ProcessingEnvironment processingEnv)
+    {
+        elementsUtils = processingEnv.getElementUtils();
+        filer = processingEnv.getFiler();
+    }
+
+    /**
+     * Generate and save the reactive descriptor for the given class.
+     * @param dataType The {@link ReactiveData} class to generate the descriptor of
+     */
+    public void generate(TypeElement dataType)
+    {
+        ClassName descriptorClassName = GenerationNameUtil.reactiveDescriptorName(dataType);
+        ParameterizedTypeName consumerType =
+            ParameterizedTypeName.get(Consumer.class, Object.class);
+
+        // Exported so the observer manager can find it from the class name
+        Builder descriptorClassBuilder = TypeSpec
+            .classBuilder(descriptorClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(AnnotationSpec
+                .builder(JsType.class)
+                .addMember("namespace", "\"VueGWT.reactiveDescriptors\"")
+                .addMember("name",
+                    "$S",
+                    dataType.getQualifiedName().toString().replaceAll("\\.", "_"))
+                .build())
+            .addJavadoc("Reactive descriptor for {@link $L}",
+                dataType.getQualifiedName().toString());
+
+        descriptorClassBuilder.addField(FieldSpec
+            .builder(consumerType,
+                "FIELDS_INITIALIZER",
+                Modifier.PRIVATE,
+                Modifier.STATIC,
+                Modifier.FINAL)
+            .initializer("$L", getFieldsInitializer(dataType))
+            .build());
+
+        descriptorClassBuilder.addMethod(MethodSpec
+            .methodBuilder(INIT_FIELDS_METHOD_NAME)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(Object.class, "object")
+            .addStatement("FIELDS_INITIALIZER.accept(object)")
+            .build());
+
+        GenerationUtil.toJavaFile(filer, descriptorClassBuilder, descriptorClassName, dataType);
+    }
+
+    /**
+     * Javapoet can't write JSNI methods, so the method setting the fields is written by hand in
+     * an anonymous class.
+     * @param dataType The {@link ReactiveData} class we are generating for
+     * @return The source of the anonymous class
+     */
+    private String getFieldsInitializer(TypeElement dataType)
+    {
+        SourceWriter sw = new StringSourceWriter();
+        sw.println("new " + Consumer.class.getCanonicalName() + "<Object>() {");
+        sw.indent();
+        sw.println("@Override");
+        // Copying the value of long fields is safe, even if JSNI can't read them
+        sw.println("@" + UnsafeNativeLong.class.getCanonicalName());
+        sw.println("public native void accept(Object object) /*-{");
+        sw.indent();
+
+        TypeElement type = dataType;
+        while (type != null && !type
+            .getQualifiedName()
+            .contentEquals(Object.class.getCanonicalName()))
+        {
+            String binaryName = elementsUtils.getBinaryName(type).toString();
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+            {
+                if (field.getModifiers().contains(Modifier.STATIC)
+                    || field.getModifiers().contains(Modifier.TRANSIENT))
+                    continue;
+
+                String fieldReference = "object.@" + binaryName + "::" + field.getSimpleName();
+                sw.println(fieldReference + " = " + fieldReference + ";");
+            }
+            type = getSuperclass(type);
+        }
+
+        sw.outdent();
+        sw.println("}-*/;");
+        sw.outdent();
+        sw.print("}");
+        return sw.toString();
+    }
+
+    private TypeElement getSuperclass(TypeElement type)
+    {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+}
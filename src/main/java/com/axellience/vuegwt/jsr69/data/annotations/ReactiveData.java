@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.jsr69.data.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Annotation placed on Java classes used as data in Vue Components.
+ * A descriptor of their fields is generated at compile time, so Vue GWT doesn't have to look for
+ * them at runtime when making their instances reactive.
+ * @author Adrien Baron
+ */
+@Target(TYPE)
+@Retention(SOURCE)
+public @interface ReactiveData
+{}
@@ -0,0 +1,156 @@
+package com.axellience.vuegwt.template;
+
+import com.axellience.vuegwt.template.cache.CachedTemplate;
+import com.axellience.vuegwt.template.cache.TemplateCache;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.template.parser.exceptions.TemplateParserException;
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+
+/**
+ * Parse an HTML template and compile it to JS render functions.
+ * <br>
+ * This is used both by the {@link TemplateResourceGwtGenerator} and by the annotation processor.
+ * If the template and the Component didn't change since a previous compilation, the result
+ * is retrieved from the {@link TemplateCache} instead.
+ * @author Adrien Baron
+ */
+public class TemplateProcessor
+{
+    /**
+     * Process the given template.
+     * @param templateContent The content of the HTML template
+     * @param context The parser context, with the fields and methods of our Component
+     * @param compiler The compiler to use to get the render functions
+     * @return The result of both the template parser and the vue-template-compiler
+     * @throws VueTemplateCompilerException If the compilation to render functions fails
+     */
+    public static CachedTemplate process(String templateContent, TemplateParserContext context,
+        VueTemplateCompiler compiler) throws VueTemplateCompilerException
+    {
+        TemplateCache templateCache = TemplateCache.get();
+        String cacheKey = null;
+        if (templateCache != null)
+        {
+            cacheKey = computeCacheKey(templateContent, context, compiler);
+
+            CachedTemplate cachedTemplate = templateCache.read(cacheKey);
+            if (cachedTemplate != null)
+                return cachedTemplate;
+        }
+
+        TemplateParserResult templateParserResult =
+            new TemplateParser().parseHtmlTemplate(templateContent, context);
+
+        // Compile the resulting HTML template String
+        VueTemplateCompilerResult compilerResult =
+            compiler.compile(templateParserResult.getProcessedTemplate());
+
+        CachedTemplate processedTemplate =
+            new CachedTemplate(templateParserResult, compilerResult);
+        if (templateCache != null)
+            templateCache.write(cacheKey, processedTemplate);
+
+        return processedTemplate;
+    }
+
+    /**
+     * Process several templates at once. Templates that are not in the cache are all compiled
+     * with a single call to the vue-template-compiler.
+     * @param templates The templates to process, by name
+     * @param compiler The compiler to use to get the render functions
+     * @param parserErrorHandler Called for each template that fails to be parsed, those
+     * templates are not part of the result
+     * @return The result of both the template parser and the vue-template-compiler, by name
+     * @throws VueTemplateCompilerException If the compilation to render functions fails
+     */
+    public static Map<String, CachedTemplate> processAll(Map<String, TemplateSource> templates,
+        VueTemplateCompiler compiler,
+        BiConsumer<String, TemplateParserException> parserErrorHandler)
+    throws VueTemplateCompilerException
+    {
+        Map<String, CachedTemplate> processedTemplates = new LinkedHashMap<>();
+        Map<String, TemplateParserResult> parserResults = new LinkedHashMap<>();
+        Map<String, String> cacheKeys = new HashMap<>();
+
+        TemplateCache templateCache = TemplateCache.get();
+        for (Entry<String, TemplateSource> template : templates.entrySet())
+        {
+            String name = template.getKey();
+            TemplateSource source = template.getValue();
+            if (templateCache != null)
+            {
+                String cacheKey = computeCacheKey(source.content, source.context, compiler);
+                CachedTemplate cachedTemplate = templateCache.read(cacheKey);
+                if (cachedTemplate != null)
+                {
+                    processedTemplates.put(name, cachedTemplate);
+                    continue;
+                }
+                cacheKeys.put(name, cacheKey);
+            }
+
+            try
+            {
+                parserResults.put(name,
+                    new TemplateParser().parseHtmlTemplate(source.content, source.context));
+            }
+            catch (TemplateParserException e)
+            {
+                parserErrorHandler.accept(name, e);
+            }
+        }
+
+        // Compile all the resulting HTML template Strings at once
+        Map<String, String> htmlTemplates = new LinkedHashMap<>();
+        parserResults.forEach((name, parserResult) -> htmlTemplates.put(name,
+            parserResult.getProcessedTemplate()));
+        Map<String, VueTemplateCompilerResult> compilerResults =
+            compiler.compileAll(htmlTemplates);
+
+        for (Entry<String, TemplateParserResult> parserResult : parserResults.entrySet())
+        {
+            String name = parserResult.getKey();
+            CachedTemplate processedTemplate =
+                new CachedTemplate(parserResult.getValue(), compilerResults.get(name));
+            if (templateCache != null)
+                templateCache.write(cacheKeys.get(name), processedTemplate);
+
+            processedTemplates.put(name, processedTemplate);
+        }
+
+        return processedTemplates;
+    }
+
+    private static String computeCacheKey(String templateContent, TemplateParserContext context,
+        VueTemplateCompiler compiler)
+    {
+        return TemplateCache.computeKey(templateContent,
+            compiler.getOptionsDescription(),
+            context.getRootSignatures());
+    }
+
+    /**
+     * An HTML template to process, with the context to parse it.
+     */
+    public static class TemplateSource
+    {
+        private final String content;
+        private final TemplateParserContext context;
+
+        public TemplateSource(String content, TemplateParserContext context)
+        {
+            this.content = content;
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.axellience.vuegwt.template;
+
+import com.axellience.vuegwt.client.component.template.TemplateResource;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.jsr69.component.ComponentJsTypeGenerator;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import com.axellience.vuegwt.template.parser.result.TemplateExpression;
+import com.axellience.vuegwt.template.parser.result.TemplateExpressionKind;
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+import com.google.gwt.core.ext.Generator;
+import com.google.gwt.resources.client.CssResource;
+import com.google.gwt.user.rebind.SourceWriter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.STYLE_BUNDLE_METHOD_NAME;
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.styleBundleName;
+
+/**
+ * Write the Java implementation of a {@link TemplateResource} from a processed template.
+ * This is shared between the {@link TemplateResourceGwtGenerator} and the annotation processor,
+ * so both produce the same code.
+ * @author Adrien Baron
+ */
+public class TemplateResourceWriter
+{
+    /**
+     * Java compiler has a limit of 2^16 bytes for encoding string constants in a
+     * class file. Since the max size of a character is 4 bytes, we'll limit the
+     * number of characters to (2^14 - 1) to fit within one record.
+     */
+    private static final int MAX_STRING_CHUNK = 16383;
+
+    private static final String TEMPLATE_STYLES_FIELD = "vuegwt$templateStyles";
+
+    private static final Pattern WITH_STATEMENT = Pattern.compile("\\bwith\\s*\\(");
+
+    /**
+     * Write the template resource implementation based on the result of the template parser.
+     * @param sw The source writer
+     * @param resourceName The name of the resource
+     * @param templateResourceTypeName The name of our Template resource generated by {@link
+     * ComponentJsTypeGenerator}
+     * @param templateParserResult The result of the HTML template parsed by {@link TemplateParser}
+     * @param compilerResult The result of the compilation of the template to JS render functions
+     */
+    public static void write(SourceWriter sw, String resourceName,
+        String templateResourceTypeName, TemplateParserResult templateParserResult,
+        VueTemplateCompilerResult compilerResult)
+    {
+        // Start class
+        sw.println("new " + templateResourceTypeName + "() {");
+        sw.indent();
+
+        // Add the get name method
+        generateGetName(resourceName, sw);
+
+        // Add the render functions
+        generateGetRenderFunction(sw, compilerResult);
+        generateGetStaticRenderFunctions(sw, compilerResult);
+
+        // Declare component styles
+        processComponentStyles(sw, templateParserResult);
+
+        // Process the java expressions from the template
+        processTemplateExpressions(sw, templateParserResult);
+
+        // End class
+        sw.outdent();
+        sw.println("}");
+    }
+
+    /**
+     * Generate the method that returns the render function.
+     * @param sw The source writer
+     * @param result The result from compilation using vue-template-compiler
+     */
+    private static void generateGetRenderFunction(SourceWriter sw, VueTemplateCompilerResult result)
+    {
+        String renderFunction = result.getRenderFunction();
+        if (canBeWrittenAsJsni(renderFunction))
+        {
+            sw.println("public native Object getRenderFunction() /*-{");
+            sw.indent();
+            sw.println("return function() {" + renderFunction + "};");
+            sw.outdent();
+            sw.println("}-*/;");
+            return;
+        }
+
+        sw.println("public Object getRenderFunction() {");
+        sw.indent();
+        sw.print("return " + JsTools.class.getCanonicalName() + ".createFunction(");
+        writeLongString(sw, renderFunction);
+        sw.println(");");
+        sw.outdent();
+        sw.println("}");
+    }
+
+    /**
+     * Generate the method that returns the static render functions.
+     * @param sw The source writer
+     * @param result The result from compilation using vue-template-compiler
+     */
+    private static void generateGetStaticRenderFunctions(SourceWriter sw, VueTemplateCompilerResult result)
+    {
+        String jsArrayType = JsArray.class.getCanonicalName() + "<Object>";
+        String[] staticRenderFunctions = result.getStaticRenderFunctions();
+
+        if (Arrays.stream(staticRenderFunctions).allMatch(TemplateResourceWriter::canBeWrittenAsJsni))
+        {
+            sw.println("public native " + jsArrayType + " getStaticRenderFunctions() /*-{");
+            sw.indent();
+            sw.println("return [");
+            sw.indent();
+            sw.println(Arrays
+                .stream(staticRenderFunctions)
+                .map(staticRenderFunction -> "function() {" + staticRenderFunction + "}")
+                .collect(Collectors.joining(",\n")));
+            sw.outdent();
+            sw.println("];");
+            sw.outdent();
+            sw.println("}-*/;");
+            return;
+        }
+
+        sw.println("public " + jsArrayType + " getStaticRenderFunctions() {");
+        sw.indent();
+        sw.println(jsArrayType + " result = new " + jsArrayType + "();");
+        for (String staticRenderFunction : staticRenderFunctions)
+        {
+            sw.print("result.push(" + JsTools.class.getCanonicalName() + ".createFunction(");
+            writeLongString(sw, staticRenderFunction);
+            sw.println("));");
+        }
+        sw.println("return result;");
+        sw.outdent();
+        sw.println("}");
+    }
+
+    /**
+     * Check if a render function body can be emitted directly as JSNI. In that case it is
+     * parsed and optimized by GWT with the rest of the application, instead of being evaluated
+     * from a String at runtime.
+     * <br>
+     * GWT JSNI parser doesn't support the "with" statement. "*&#47;" would close the JSNI
+     * comment, and unicode escapes would be interpreted by the Java compiler.
+     * @param renderFunction The body of the render function
+     * @return True if it can be written as JSNI, false otherwise
+     */
+    private static boolean canBeWrittenAsJsni(String renderFunction)
+    {
+        return !WITH_STATEMENT.matcher(renderFunction).find()
+            && !renderFunction.contains("*/")
+            && !renderFunction.contains("\\u");
+    }
+
+    /**
+     * Process the expressions found in the HTML template
+     * @param sw The source writer
+     * @param templateParserResult Result from the parsing of the HTML Template
+     */
+    private static void processTemplateExpressions(SourceWriter sw,
+        TemplateParserResult templateParserResult)
+    {
+        for (TemplateExpression expression : templateParserResult.getExpressions())
+        {
+            generateTemplateExpressionMethod(sw, expression);
+        }
+
+        generateGetTemplateMethods(sw, templateParserResult);
+    }
+
+    /**
+     * Generate the Java method for an expression in the Template
+     * @param sw The source writer
+     * @param expression An expression from the HTML template
+     */
+    private static void generateTemplateExpressionMethod(SourceWriter sw, TemplateExpression expression)
+    {
+        String expressionReturnType = expression.getType();
+        if ("VOID".equals(expressionReturnType))
+            expressionReturnType = "void";
+
+        jsMethodAnnotation(sw);
+        String[] parameters = expression
+            .getParameters()
+            .stream()
+            .map(param -> param.getType() + " " + param.getName())
+            .toArray(String[]::new);
+
+        sw.println("public " + expressionReturnType + " " + expression.getId() + "(" + String.join(
+            ", ",
+            parameters) + ") {");
+        sw.indent();
+
+        if (isString(expressionReturnType))
+        {
+            sw.println("return (" + expression.getBody() + ") + \"\";");
+        }
+        else if ("void".equals(expressionReturnType))
+        {
+            sw.println(expression.getBody() + ";");
+        }
+        else
+        {
+            sw.println("return (" + expressionReturnType + ") (" + expression.getBody() + ");");
+        }
+
+        sw.outdent();
+        sw.println("}");
+    }
+
+    /**
+     * Generate the methods to get the list of methods, computed properties and memoized methods
+     * from the template
+     * @param sw The source writer
+     * @param templateParserResult Result from the parsing of the HTML Template
+     */
+    private static void generateGetTemplateMethods(SourceWriter sw,
+        TemplateParserResult templateParserResult)
+    {
+        generateGetTemplateExpressionsIds(sw,
+            "getTemplateMethods",
+            templateParserResult,
+            TemplateExpressionKind.METHOD);
+        generateGetTemplateExpressionsIds(sw,
+            "getTemplateComputedProperties",
+            templateParserResult,
+            TemplateExpressionKind.COMPUTED_PROPERTY);
+        generateGetTemplateExpressionsIds(sw,
+            "getTemplateMemoizedMethods",
+            templateParserResult,
+            TemplateExpressionKind.MEMOIZED_METHOD);
+    }
+
+    private static void generateGetTemplateExpressionsIds(SourceWriter sw, String methodName,
+        TemplateParserResult templateParserResult, TemplateExpressionKind kind)
+    {
+        sw.println("public String[] " + methodName + "() {");
+        sw.indent();
+        sw.println("return new String[] { " + getExpressionsIds(templateParserResult, kind) + " };");
+        sw.outdent();
+        sw.println("}");
+    }
+
+    private static String getExpressionsIds(TemplateParserResult templateParserResult,
+        TemplateExpressionKind kind)
+    {
+        return templateParserResult
+            .getExpressions()
+            .stream()
+            .filter(expression -> expression.getKind() == kind)
+            .map(expression -> "\"" + expression.getId() + "\"")
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Generate the getName method of our resource
+     * @param resourceName The name of the resource
+     * @param sw The source writer
+     */
+    private static void generateGetName(String resourceName, SourceWriter sw)
+    {
+        sw.println("public String getName() {");
+        sw.indent();
+        sw.println("return \"" + resourceName + "\";");
+        sw.outdent();
+        sw.println("}");
+    }
+
+    /**
+     * Generate the method returning Styles declared in the template.
+     * @param sw The source writer
+     * @param templateParserResult Result from the parsing of the HTML Template
+     */
+    private static void processComponentStyles(SourceWriter sw, TemplateParserResult templateParserResult)
+    {
+        for (Entry<String, String> entry : templateParserResult.getStyleImports().entrySet())
+        {
+            String styleInstance =
+                styleBundleName(entry.getValue()) + ".INSTANCE." + STYLE_BUNDLE_METHOD_NAME + "()";
+
+            jsPropertyAnnotation(sw);
+            sw.println("private "
+                + entry.getValue()
+                + " "
+                + entry.getKey()
+                + " = "
+                + styleInstance
+                + ";");
+        }
+
+        String mapType =
+            Map.class.getCanonicalName() + "<String, " + CssResource.class.getCanonicalName() + ">";
+        String collectionsType = Collections.class.getCanonicalName();
+        if (templateParserResult.getStyleImports().isEmpty())
+        {
+            sw.println("public " + mapType + " getTemplateStyles() {");
+            sw.indent();
+            sw.println("return " + collectionsType + ".emptyMap();");
+            sw.outdent();
+            sw.println("}");
+            return;
+        }
+
+        // The styles never change, so the Map is only built on the first call
+        sw.println("private " + mapType + " " + TEMPLATE_STYLES_FIELD + ";");
+        sw.println("public " + mapType + " getTemplateStyles() {");
+        sw.indent();
+        sw.println("if (" + TEMPLATE_STYLES_FIELD + " == null) {");
+        sw.indent();
+        sw.println(mapType + " result = new " + HashMap.class.getCanonicalName() + "<>();");
+        for (String styleName : templateParserResult.getStyleImports().keySet())
+        {
+            sw.println("result.put(\"" + styleName + "\", " + styleName + ");");
+        }
+        sw.println(TEMPLATE_STYLES_FIELD + " = " + collectionsType + ".unmodifiableMap(result);");
+        sw.outdent();
+        sw.println("}");
+        sw.println("return " + TEMPLATE_STYLES_FIELD + ";");
+        sw.outdent();
+        sw.println("}");
+    }
+
+    /**
+     * Check if a given expressionReturnType is String.
+     * @param expressionReturnType The return type
+     * @return True if this is a String, false otherwise
+     */
+    private static boolean isString(String expressionReturnType)
+    {
+        return "java.lang.String".equals(expressionReturnType) || "String".equals(
+            expressionReturnType);
+    }
+
+    /**
+     * A single constant that is too long will crash the compiler with an out of
+     * memory error. Break up the constant and generate code that appends using a
+     * buffer.
+     */
+    private static void writeLongString(SourceWriter sw, String toWrite)
+    {
+        if (toWrite.length() > MAX_STRING_CHUNK)
+        {
+            sw.println("new StringBuilder()");
+            int offset = 0;
+            int length = toWrite.length();
+            while (offset < length - 1)
+            {
+                int subLength = Math.min(MAX_STRING_CHUNK, length - offset);
+                sw.print(".append(\"");
+                sw.print(Generator.escape(toWrite.substring(offset, offset + subLength)));
+                sw.println("\")");
+                offset += subLength;
+            }
+        }
+        else
+        {
+            sw.println("\"" + Generator.escape(toWrite) + "\"");
+        }
+    }
+
+    private static void jsPropertyAnnotation(SourceWriter sw)
+    {
+        sw.println("@SuppressWarnings(\"unusable-by-js\")");
+        sw.println("@jsinterop.annotations.JsProperty");
+    }
+
+    private static void jsMethodAnnotation(SourceWriter sw)
+    {
+        sw.println("@SuppressWarnings(\"unusable-by-js\")");
+        sw.println("@jsinterop.annotations.JsMethod");
+    }
+}
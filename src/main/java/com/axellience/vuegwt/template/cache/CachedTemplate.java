@@ -0,0 +1,36 @@
+package com.axellience.vuegwt.template.cache;
+
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+
+import java.io.Serializable;
+
+/**
+ * The result of the processing of a template, stored in the {@link TemplateCache}.
+ * Contains both the result of the template parser and of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public class CachedTemplate implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final TemplateParserResult parserResult;
+    private final VueTemplateCompilerResult compilerResult;
+
+    public CachedTemplate(TemplateParserResult parserResult,
+        VueTemplateCompilerResult compilerResult)
+    {
+        this.parserResult = parserResult;
+        this.compilerResult = compilerResult;
+    }
+
+    public TemplateParserResult getParserResult()
+    {
+        return parserResult;
+    }
+
+    public VueTemplateCompilerResult getCompilerResult()
+    {
+        return compilerResult;
+    }
+}
@@ -0,0 +1,197 @@
+package com.axellience.vuegwt.template.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+
+/**
+ * A persistent cache for processed templates, stored on disk.
+ * <br>
+ * Entries are addressed by a hash of everything the processing depends on: the template content,
+ * the signatures of the fields and methods visible from the template, and the version of the
+ * template processing. This allows skipping the parser and Nashorn for unchanged templates across
+ * GWT compilations and Super Dev Mode refreshes.
+ * <br>
+ * The cache is stored in "java.io.tmpdir/vue-gwt/template-cache" by default. This can be changed
+ * using the "vuegwt.templateCache.dir" system property. The cache can be disabled by setting the
+ * "vuegwt.templateCache.enabled" system property to false.
+ * @author Adrien Baron
+ */
+public class TemplateCache
+{
+    /**
+     * Must be changed each time the output of the template processing changes, to invalidate
+     * existing entries.
+     */
+    private static final String CACHE_VERSION = "vue-gwt-10;vue-template-compiler-2.4.2";
+
+    private static final String CACHE_DIR_PROPERTY = "vuegwt.templateCache.dir";
+    private static final String CACHE_ENABLED_PROPERTY = "vuegwt.templateCache.enabled";
+    private static final String ENTRY_EXTENSION = ".ser";
+
+    private static TemplateCache instance;
+
+    private final Path cacheDirectory;
+
+    private TemplateCache(Path cacheDirectory)
+    {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Return the template cache configured using the system properties.
+     * @return The template cache, or null if the cache is disabled
+     */
+    public static synchronized TemplateCache get()
+    {
+        if (!Boolean.parseBoolean(System.getProperty(CACHE_ENABLED_PROPERTY, "true")))
+            return null;
+
+        if (instance == null)
+        {
+            String cacheDirectory = System.getProperty(CACHE_DIR_PROPERTY);
+            if (cacheDirectory == null)
+            {
+                cacheDirectory = System.getProperty("java.io.tmpdir")
+                    + File.separator
+                    + "vue-gwt"
+                    + File.separator
+                    + "template-cache";
+            }
+
+            instance = new TemplateCache(Paths.get(cacheDirectory));
+        }
+
+        return instance;
+    }
+
+    /**
+     * Compute the key of a template in the cache.
+     * @param templateContent The content of the HTML template
+     * @param compilerOptions The options used to process the template
+     * @param componentSignatures The signatures of the fields and methods visible in the
+     * template, in a stable order
+     * @return The key of the template in the cache
+     */
+    public static String computeKey(String templateContent, String compilerOptions,
+        Collection<String> componentSignatures)
+    {
+        MessageDigest digest;
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+
+        update(digest, CACHE_VERSION);
+        update(digest, templateContent);
+        update(digest, compilerOptions);
+        for (String componentSignature : componentSignatures)
+            update(digest, componentSignature);
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest())
+            key.append(String.format("%02x", b));
+
+        return key.toString();
+    }
+
+    private static void update(MessageDigest digest, String value)
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Prefix with the length so concatenated values can't collide
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    /**
+     * Get a template from the cache.
+     * @param key The key of the template, computed with {@link #computeKey}
+     * @return The cached template, or null if it's not in the cache
+     */
+    public CachedTemplate read(String key)
+    {
+        Path entryPath = getEntryPath(key);
+        if (!Files.exists(entryPath))
+            return null;
+
+        try (InputStream inputStream = Files.newInputStream(entryPath);
+             ObjectInputStream objectInputStream = new ObjectInputStream(inputStream))
+        {
+            return (CachedTemplate) objectInputStream.readObject();
+        }
+        catch (IOException | ClassNotFoundException | ClassCastException e)
+        {
+            // Corrupted entry or written by an incompatible version, it will be overwritten
+            return null;
+        }
+    }
+
+    /**
+     * Store a template in the cache.
+     * Failing to write in the cache is not an error, the template will just be processed again
+     * next time.
+     * @param key The key of the template, computed with {@link #computeKey}
+     * @param cachedTemplate The processed template to store
+     */
+    public void write(String key, CachedTemplate cachedTemplate)
+    {
+        Path temporaryPath = null;
+        try
+        {
+            Files.createDirectories(cacheDirectory);
+
+            // Write in a temporary file first, so other compilation workers never see
+            // partial entries
+            temporaryPath = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporaryPath);
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream))
+            {
+                objectOutputStream.writeObject(cachedTemplate);
+            }
+
+            Files.move(temporaryPath,
+                getEntryPath(key),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            deleteQuietly(temporaryPath);
+        }
+    }
+
+    private Path getEntryPath(String key)
+    {
+        return cacheDirectory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private void deleteQuietly(Path path)
+    {
+        if (path == null)
+            return;
+
+        try
+        {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ignored)
+        {
+        }
+    }
+}
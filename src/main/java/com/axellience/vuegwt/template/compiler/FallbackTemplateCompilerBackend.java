@@ -0,0 +1,74 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link TemplateCompilerBackend} using a primary backend, and falling back to another one for
+ * templates the primary backend doesn't support.
+ * @author Adrien Baron
+ */
+public class FallbackTemplateCompilerBackend implements TemplateCompilerBackend
+{
+    private final TemplateCompilerBackend primaryBackend;
+    private final TemplateCompilerBackend fallbackBackend;
+
+    public FallbackTemplateCompilerBackend(TemplateCompilerBackend primaryBackend,
+        TemplateCompilerBackend fallbackBackend)
+    {
+        this.primaryBackend = primaryBackend;
+        this.fallbackBackend = fallbackBackend;
+    }
+
+    @Override
+    public VueTemplateCompilerResult compile(String htmlTemplate)
+    throws VueTemplateCompilerException
+    {
+        try
+        {
+            return primaryBackend.compile(htmlTemplate);
+        }
+        catch (UnsupportedTemplateException e)
+        {
+            return fallbackBackend.compile(htmlTemplate);
+        }
+    }
+
+    @Override
+    public Map<String, VueTemplateCompilerResult> compileAll(Map<String, String> htmlTemplates)
+    throws VueTemplateCompilerException
+    {
+        Map<String, VueTemplateCompilerResult> primaryResults = new LinkedHashMap<>();
+        Map<String, String> unsupportedTemplates = new LinkedHashMap<>();
+        for (Map.Entry<String, String> htmlTemplate : htmlTemplates.entrySet())
+        {
+            try
+            {
+                primaryResults.put(htmlTemplate.getKey(),
+                    primaryBackend.compile(htmlTemplate.getValue()));
+            }
+            catch (UnsupportedTemplateException e)
+            {
+                unsupportedTemplates.put(htmlTemplate.getKey(), htmlTemplate.getValue());
+            }
+        }
+
+        // Unsupported templates are still compiled together
+        Map<String, VueTemplateCompilerResult> fallbackResults =
+            fallbackBackend.compileAll(unsupportedTemplates);
+
+        Map<String, VueTemplateCompilerResult> results = new LinkedHashMap<>();
+        for (String name : htmlTemplates.keySet())
+        {
+            VueTemplateCompilerResult result = primaryResults.get(name);
+            results.put(name, result != null ? result : fallbackResults.get(name));
+        }
+        return results;
+    }
+
+    @Override
+    public String getName()
+    {
+        return primaryBackend.getName() + "+" + fallbackBackend.getName();
+    }
+}
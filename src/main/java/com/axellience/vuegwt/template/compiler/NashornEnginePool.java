@@ -0,0 +1,123 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.coveo.nashorn_modules.Folder;
+import com.coveo.nashorn_modules.Require;
+import jdk.nashorn.api.scripting.NashornScriptEngine;
+
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A bounded pool of Nashorn engines with the vue-template-compiler loaded in them.
+ * <br>
+ * A Nashorn engine is not thread safe, so each compilation must check out its own engine and
+ * return it once done. Engines are created lazily, up to the maximum size of the pool. When all
+ * the engines are in use, callers wait for one to be returned.
+ * @author Adrien Baron
+ */
+class NashornEnginePool
+{
+    private final Folder folder;
+    private final int maxSize;
+    private final BlockingQueue<NashornScriptEngine> idleEngines = new LinkedBlockingQueue<>();
+    private int createdEngines = 0;
+
+    /**
+     * Create a pool of engines.
+     * @param folder The folder containing the vue-template-compiler JS files
+     * @param maxSize The maximum number of engines in this pool
+     */
+    NashornEnginePool(Folder folder, int maxSize)
+    {
+        this.folder = folder;
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * Get an engine from the pool. It must be given back using {@link #release} once done.
+     * If no engine is available and the pool is full, this will wait for an engine to be released.
+     * @return An initialized Nashorn engine, only usable by the caller until released
+     * @throws VueTemplateCompilerException If the engine couldn't be initialized or we were
+     * interrupted while waiting for an engine
+     */
+    NashornScriptEngine checkout() throws VueTemplateCompilerException
+    {
+        NashornScriptEngine engine = idleEngines.poll();
+        if (engine != null)
+            return engine;
+
+        if (reserveEngineCreation())
+        {
+            try
+            {
+                return createEngine();
+            }
+            catch (VueTemplateCompilerException | RuntimeException e)
+            {
+                cancelEngineCreation();
+                throw e;
+            }
+        }
+
+        try
+        {
+            return idleEngines.take();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new VueTemplateCompilerException(
+                "Interrupted while waiting for a template compiler engine");
+        }
+    }
+
+    /**
+     * Give back an engine previously obtained with {@link #checkout}.
+     * @param engine The engine to give back
+     */
+    void release(NashornScriptEngine engine)
+    {
+        idleEngines.offer(engine);
+    }
+
+    private synchronized boolean reserveEngineCreation()
+    {
+        if (createdEngines >= maxSize)
+            return false;
+
+        createdEngines++;
+        return true;
+    }
+
+    private synchronized void cancelEngineCreation()
+    {
+        createdEngines--;
+    }
+
+    /**
+     * Init a Nashorn engine and load the Vue compiler in it.
+     * @return The initialized engine
+     * @throws VueTemplateCompilerException If the Vue compiler couldn't be loaded
+     */
+    private NashornScriptEngine createEngine() throws VueTemplateCompilerException
+    {
+        NashornScriptEngine engine =
+            (NashornScriptEngine) new ScriptEngineManager().getEngineByName("nashorn");
+
+        try
+        {
+            Require.enable(engine, folder);
+            engine.eval(folder.getFile("index.js"));
+        }
+        catch (ScriptException e)
+        {
+            e.printStackTrace();
+            throw new VueTemplateCompilerException(
+                "Couldn't load the vue-template-compiler in Nashorn: " + e.getMessage());
+        }
+
+        return engine;
+    }
+}
@@ -0,0 +1,151 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.coveo.nashorn_modules.Folder;
+import jdk.nashorn.api.scripting.NashornScriptEngine;
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+import javax.script.ScriptException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TemplateCompilerBackend} running the vue-template-compiler in Nashorn.
+ * <br>
+ * Nashorn engines are shared between instances using a bounded pool, so templates can be
+ * compiled in parallel. The size of the pool defaults to the number of available processors and
+ * can be set using the "vuegwt.templateCompiler.poolSize" system property.
+ * @author Adrien Baron
+ */
+public class NashornTemplateCompilerBackend implements TemplateCompilerBackend
+{
+    public static final String NAME = "nashorn";
+
+    private static final String POOL_SIZE_PROPERTY = "vuegwt.templateCompiler.poolSize";
+
+    private static NashornEnginePool enginePool;
+
+    /**
+     * Create the backend.
+     * @param folderSupplier Supplies the folder to get the vue-template-compiler JS files from.
+     * Only called the first time a backend is created.
+     */
+    public NashornTemplateCompilerBackend(Supplier<Folder> folderSupplier)
+    {
+        // Engines are cached between instances to avoid creating them at each compilation
+        initEnginePool(folderSupplier);
+    }
+
+    /**
+     * Init the pool of Nashorn engines if it doesn't exist yet.
+     * @param folderSupplier Supplies the folder to get the vue-template-compiler JS files from
+     */
+    private static synchronized void initEnginePool(Supplier<Folder> folderSupplier)
+    {
+        if (enginePool != null)
+            return;
+
+        int poolSize =
+            Integer.getInteger(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors());
+
+        enginePool = new NashornEnginePool(folderSupplier.get(), poolSize);
+    }
+
+    @Override
+    public VueTemplateCompilerResult compile(String htmlTemplate)
+    throws VueTemplateCompilerException
+    {
+        NashornScriptEngine engine = enginePool.checkout();
+        try
+        {
+            ScriptObjectMirror templateCompilerResult;
+            try
+            {
+                templateCompilerResult =
+                    (ScriptObjectMirror) engine.invokeFunction("compile", htmlTemplate);
+            }
+            catch (ScriptException | NoSuchMethodException e)
+            {
+                e.printStackTrace();
+                throw new VueTemplateCompilerException(
+                    "An error occurred while compiling the template: " + htmlTemplate);
+            }
+
+            // Mirrors are bound to the engine, so we convert them before releasing it
+            String renderFunction = (String) templateCompilerResult.get("render");
+            String[] staticRenderFunctions =
+                ((ScriptObjectMirror) templateCompilerResult.get("staticRenderFns")).to(String[].class);
+
+            return new VueTemplateCompilerResult(renderFunction, staticRenderFunctions);
+        }
+        finally
+        {
+            enginePool.release(engine);
+        }
+    }
+
+    /**
+     * Compile several HTML templates to JS functions using vue-template-compiler.
+     * All the templates are sent to the engine in one call, and all the results are retrieved in
+     * one structure. This avoids the cost of the Java/JS bridge for each template.
+     * @param htmlTemplates The HTML Component templates to compile, by name
+     * @return The compilation results, by name
+     * @throws VueTemplateCompilerException If the compilation fails
+     */
+    @Override
+    public Map<String, VueTemplateCompilerResult> compileAll(Map<String, String> htmlTemplates)
+    throws VueTemplateCompilerException
+    {
+        Map<String, VueTemplateCompilerResult> results = new LinkedHashMap<>();
+        if (htmlTemplates.isEmpty())
+            return results;
+
+        List<String> names = new ArrayList<>(htmlTemplates.keySet());
+        String[] templates =
+            names.stream().map(htmlTemplates::get).toArray(String[]::new);
+
+        String[] compiledTemplates;
+        NashornScriptEngine engine = enginePool.checkout();
+        try
+        {
+            compiledTemplates =
+                (String[]) engine.invokeFunction("compileAll", (Object) templates);
+        }
+        catch (ScriptException | NoSuchMethodException e)
+        {
+            e.printStackTrace();
+            throw new VueTemplateCompilerException(
+                "An error occurred while compiling the templates: " + names);
+        }
+        finally
+        {
+            enginePool.release(engine);
+        }
+
+        // For each template: render function, number of static render functions, static render
+        // functions
+        int index = 0;
+        for (String name : names)
+        {
+            String renderFunction = compiledTemplates[index++];
+            int staticRenderFunctionsCount = Integer.parseInt(compiledTemplates[index++]);
+            String[] staticRenderFunctions = Arrays.copyOfRange(compiledTemplates,
+                index,
+                index + staticRenderFunctionsCount);
+            index += staticRenderFunctionsCount;
+
+            results.put(name, new VueTemplateCompilerResult(renderFunction, staticRenderFunctions));
+        }
+
+        return results;
+    }
+
+    @Override
+    public String getName()
+    {
+        return NAME;
+    }
+}
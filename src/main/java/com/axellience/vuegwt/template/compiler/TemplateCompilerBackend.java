@@ -0,0 +1,47 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A backend turning HTML Vue templates into render functions, used by the
+ * {@link VueTemplateCompiler}.
+ * <br>
+ * Backends must give the same result as the vue-template-compiler: the body of the render
+ * function and of the static render functions, still wrapped in "with(this)".
+ * @author Adrien Baron
+ */
+public interface TemplateCompilerBackend
+{
+    /**
+     * Compile the given HTML template.
+     * @param htmlTemplate The HTML Component template to compile
+     * @return An object containing the render functions
+     * @throws VueTemplateCompilerException If the compilation fails, or {@link
+     * UnsupportedTemplateException} if the template can't be compiled by this backend
+     */
+    VueTemplateCompilerResult compile(String htmlTemplate) throws VueTemplateCompilerException;
+
+    /**
+     * Compile several HTML templates.
+     * @param htmlTemplates The HTML Component templates to compile, by name
+     * @return The compilation results, by name
+     * @throws VueTemplateCompilerException If the compilation fails, or {@link
+     * UnsupportedTemplateException} if one of the templates can't be compiled by this backend
+     */
+    default Map<String, VueTemplateCompilerResult> compileAll(Map<String, String> htmlTemplates)
+    throws VueTemplateCompilerException
+    {
+        Map<String, VueTemplateCompilerResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> htmlTemplate : htmlTemplates.entrySet())
+            results.put(htmlTemplate.getKey(), compile(htmlTemplate.getValue()));
+
+        return results;
+    }
+
+    /**
+     * Return the name of this backend. Used to select the backend and when caching results.
+     * @return The name of this backend
+     */
+    String getName();
+}
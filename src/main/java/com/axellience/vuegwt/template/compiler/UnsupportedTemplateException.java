@@ -0,0 +1,15 @@
+package com.axellience.vuegwt.template.compiler;
+
+/**
+ * Thrown by a {@link TemplateCompilerBackend} when a template uses a feature it can't compile.
+ * @author Adrien Baron
+ */
+public class UnsupportedTemplateException extends VueTemplateCompilerException
+{
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedTemplateException(String message)
+    {
+        super(message);
+    }
+}
@@ -1,55 +1,90 @@
 package com.axellience.vuegwt.template.compiler;
 
+import com.axellience.vuegwt.template.compiler.java.JavaTemplateCompilerBackend;
 import com.coveo.nashorn_modules.Folder;
-import com.coveo.nashorn_modules.Require;
+import com.coveo.nashorn_modules.ResourceFolder;
 import com.google.gwt.dev.resource.ResourceOracle;
-import jdk.nashorn.api.scripting.NashornScriptEngine;
-import jdk.nashorn.api.scripting.ScriptObjectMirror;
 
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
- * Compile an HTML Vue template to JS render function using Nashorn and the vue-template-compiler.
+ * Compile an HTML Vue template to JS render function.
+ * <br>
+ * Templates are compiled by a {@link TemplateCompilerBackend}, selected using the
+ * "vuegwt.templateCompiler.backend" system property:
+ * <ul>
+ * <li>"nashorn" (default): {@link NashornTemplateCompilerBackend}, running the
+ * vue-template-compiler in Nashorn</li>
+ * <li>"java": {@link JavaTemplateCompilerBackend}, falling back to Nashorn for templates it
+ * doesn't support. Its output is checked against Nashorn by the TemplateCompilerConformance
+ * tool of the benchmarks project</li>
+ * </ul>
+ * <br>
+ * By default, the "with(this)" statement is removed from the resulting render functions (see
+ * {@link WithStatementStripper}).
  * @author Adrien Baron
  */
 public class VueTemplateCompiler
 {
-    private static NashornScriptEngine engine;
+    public static final String BACKEND_PROPERTY = "vuegwt.templateCompiler.backend";
+    // Resources are in the "client" folder to be included during GWT compilation
+    private static final String COMPILER_FOLDER = "com/axellience/vuegwt/client/template/compiler";
+
+    private final TemplateCompilerBackend backend;
+    private final boolean stripWith;
 
     public VueTemplateCompiler(ResourceOracle resourceOracle)
     {
-        // Engine is cached between instance to avoid creating at each compilation
-        if (engine == null)
-        {
-            initEngine(resourceOracle);
-        }
+        this(resourceOracle, true);
     }
 
     /**
-     * Init the Nashorn engine and load the Vue compiler in it.
+     * Create a compiler.
      * @param resourceOracle The GWT resource Oracle to access JS files
+     * @param stripWith Whether to remove the "with(this)" statement from render functions
      */
-    private void initEngine(ResourceOracle resourceOracle)
+    public VueTemplateCompiler(ResourceOracle resourceOracle, boolean stripWith)
     {
-        engine = (NashornScriptEngine) new ScriptEngineManager().getEngineByName("nashorn");
+        this(() -> new GwtResourceFolder(resourceOracle, COMPILER_FOLDER), stripWith);
+    }
 
-        // Resources are in the "client" folder to be included during GWT compilation
-        Folder folder =
-            new GwtResourceFolder(resourceOracle, "com/axellience/vuegwt/client/template/compiler");
-        try
-        {
-            Require.enable(engine, folder);
-            engine.eval(folder.getFile("index.js"));
-        }
-        catch (ScriptException e)
-        {
-            e.printStackTrace();
-        }
+    /**
+     * Create a compiler loading the vue-template-compiler from the classpath.
+     * Used outside of GWT compilation, for example during annotation processing.
+     * @param classLoader The class loader to get the JS files from
+     * @param stripWith Whether to remove the "with(this)" statement from render functions
+     */
+    public VueTemplateCompiler(ClassLoader classLoader, boolean stripWith)
+    {
+        this(() -> ResourceFolder.create(classLoader, COMPILER_FOLDER, "UTF-8"), stripWith);
+    }
+
+    private VueTemplateCompiler(Supplier<Folder> folderSupplier, boolean stripWith)
+    {
+        this.stripWith = stripWith;
+        this.backend = createBackend(folderSupplier);
+    }
+
+    /**
+     * Create the backend selected by the "vuegwt.templateCompiler.backend" system property.
+     * @param folderSupplier Supplies the folder to get the vue-template-compiler JS files from
+     * @return The backend to use
+     */
+    private static TemplateCompilerBackend createBackend(Supplier<Folder> folderSupplier)
+    {
+        TemplateCompilerBackend nashornBackend =
+            new NashornTemplateCompilerBackend(folderSupplier);
+        if (!JavaTemplateCompilerBackend.NAME.equals(System.getProperty(BACKEND_PROPERTY)))
+            return nashornBackend;
+
+        return new FallbackTemplateCompilerBackend(new JavaTemplateCompilerBackend(),
+            nashornBackend);
     }
 
     /**
-     * Compile the given HTML template to JS functions using vue-template-compiler.
+     * Compile the given HTML template to JS functions.
      * @param htmlTemplate The HTML Component template to compile
      * @return An object containing the render functions
      * @throws VueTemplateCompilerException If the compilation fails
@@ -57,23 +92,60 @@ public class VueTemplateCompiler
     public VueTemplateCompilerResult compile(String htmlTemplate)
     throws VueTemplateCompilerException
     {
-        ScriptObjectMirror templateCompilerResult;
-        try
+        return postProcess(backend.compile(htmlTemplate));
+    }
+
+    /**
+     * Compile several HTML templates to JS functions.
+     * With the Nashorn backend, all the templates are sent to the engine in one call. This
+     * avoids the cost of the Java/JS bridge for each template.
+     * @param htmlTemplates The HTML Component templates to compile, by name
+     * @return The compilation results, by name
+     * @throws VueTemplateCompilerException If the compilation fails
+     */
+    public Map<String, VueTemplateCompilerResult> compileAll(Map<String, String> htmlTemplates)
+    throws VueTemplateCompilerException
+    {
+        Map<String, VueTemplateCompilerResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, VueTemplateCompilerResult> result : backend
+            .compileAll(htmlTemplates)
+            .entrySet())
         {
-            templateCompilerResult =
-                (ScriptObjectMirror) engine.invokeFunction("compile", htmlTemplate);
+            results.put(result.getKey(), postProcess(result.getValue()));
         }
-        catch (ScriptException | NoSuchMethodException e)
+
+        return results;
+    }
+
+    /**
+     * Return a description of the options of this compiler. Templates compiled with the same
+     * options give the same result.
+     * @return The options of this compiler
+     */
+    public String getOptionsDescription()
+    {
+        return "backend=" + backend.getName() + ";stripWith=" + stripWith;
+    }
+
+    /**
+     * Apply transformations on the render functions returned by the vue-template-compiler.
+     * @param result The result from the vue-template-compiler
+     * @return The transformed result
+     */
+    private VueTemplateCompilerResult postProcess(VueTemplateCompilerResult result)
+    {
+        if (!stripWith)
+            return result;
+
+        String[] staticRenderFunctions = result.getStaticRenderFunctions();
+        String[] strippedStaticRenderFunctions = new String[staticRenderFunctions.length];
+        for (int i = 0; i < staticRenderFunctions.length; i++)
         {
-            e.printStackTrace();
-            throw new VueTemplateCompilerException(
-                "An error occurred while compiling the template: " + htmlTemplate);
+            strippedStaticRenderFunctions[i] =
+                WithStatementStripper.stripWith(staticRenderFunctions[i]);
         }
 
-        String renderFunction = (String) templateCompilerResult.get("render");
-        String[] staticRenderFunctions =
-            ((ScriptObjectMirror) templateCompilerResult.get("staticRenderFns")).to(String[].class);
-
-        return new VueTemplateCompilerResult(renderFunction, staticRenderFunctions);
+        String strippedRenderFunction = WithStatementStripper.stripWith(result.getRenderFunction());
+        return new VueTemplateCompilerResult(strippedRenderFunction, strippedStaticRenderFunctions);
     }
 }
@@ -1,10 +1,14 @@
 package com.axellience.vuegwt.template.compiler;
 
+import java.io.Serializable;
+
 /**
  * @author Adrien Baron
  */
-public class VueTemplateCompilerResult
+public class VueTemplateCompilerResult implements Serializable
 {
+    private static final long serialVersionUID = 1L;
+
     private String renderFunction;
     private String[] staticRenderFunctions;
 
@@ -0,0 +1,479 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Remove the "with(this)" statement from render functions generated by the vue-template-compiler.
+ * <br>
+ * Inside a "with" block JS engines can't optimize scope lookups. This rewrites every free
+ * identifier to an explicit property access on the Vue instance, like the "stripWith" transform
+ * of Vue: "with(this){return _c('div')}" becomes "var _vm=this;return _vm._c('div')".
+ * <br>
+ * Reserved words used as object keys (like "class") are also quoted, so the result can be parsed
+ * by the GWT JSNI parser.
+ * <br>
+ * This works on the tokens of the code, which is enough for the subset of JS generated by the
+ * vue-template-compiler. If something unexpected is found, the code is returned untouched.
+ * @author Adrien Baron
+ */
+class WithStatementStripper
+{
+    private static final String WITH_START = "with(this){";
+    private static final String WITH_END = "}";
+    private static final String INSTANCE_VARIABLE = "_vm";
+
+    /**
+     * Globals that can be used in templates, same as the ones allowed by Vue.
+     */
+    private static final Set<String> ALLOWED_GLOBALS = new HashSet<>(Arrays.asList("Infinity",
+        "undefined",
+        "NaN",
+        "isFinite",
+        "isNaN",
+        "parseFloat",
+        "parseInt",
+        "decodeURI",
+        "decodeURIComponent",
+        "encodeURI",
+        "encodeURIComponent",
+        "Math",
+        "Number",
+        "Date",
+        "Array",
+        "Object",
+        "Boolean",
+        "String",
+        "RegExp",
+        "Map",
+        "Set",
+        "JSON",
+        "Intl",
+        "require",
+        "arguments"));
+
+    private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("break",
+        "case",
+        "catch",
+        "continue",
+        "default",
+        "delete",
+        "do",
+        "else",
+        "false",
+        "finally",
+        "for",
+        "function",
+        "if",
+        "in",
+        "instanceof",
+        "new",
+        "null",
+        "return",
+        "switch",
+        "this",
+        "throw",
+        "true",
+        "try",
+        "typeof",
+        "var",
+        "void",
+        "while",
+        "with"));
+
+    private static final Set<String> FUTURE_RESERVED_WORDS = new HashSet<>(Arrays.asList(
+        "abstract",
+        "boolean",
+        "byte",
+        "char",
+        "class",
+        "const",
+        "debugger",
+        "double",
+        "enum",
+        "export",
+        "extends",
+        "final",
+        "float",
+        "goto",
+        "implements",
+        "import",
+        "int",
+        "interface",
+        "long",
+        "native",
+        "package",
+        "private",
+        "protected",
+        "public",
+        "short",
+        "static",
+        "super",
+        "synchronized",
+        "throws",
+        "transient",
+        "volatile"));
+
+    private final String code;
+    private final StringBuilder result = new StringBuilder();
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+
+    private int position = 0;
+    private int braceDepth = 0;
+    private int parenDepth = 0;
+    private String previousToken = null;
+
+    // Parsing a function declaration: "function name(params) {"
+    private boolean inFunctionHeader = false;
+    private Set<String> functionParameters = null;
+
+    // Parsing a var declaration: "var a = 1, b = 2;"
+    private boolean inVarDeclaration = false;
+    private int varDeclarationParenDepth;
+    private int varDeclarationBraceDepth;
+    private boolean expectVarName = false;
+
+    private WithStatementStripper(String code)
+    {
+        this.code = code;
+    }
+
+    /**
+     * Strip the "with(this)" statement from the given render function body.
+     * @param renderFunction The body of a render function, as returned by the
+     * vue-template-compiler
+     * @return The body without the "with" statement, or the given body if it couldn't be
+     * processed
+     */
+    static String stripWith(String renderFunction)
+    {
+        String trimmed = renderFunction.trim();
+        if (!trimmed.startsWith(WITH_START) || !trimmed.endsWith(WITH_END))
+            return renderFunction;
+
+        String body =
+            trimmed.substring(WITH_START.length(), trimmed.length() - WITH_END.length());
+        String strippedBody = new WithStatementStripper(body).process();
+        if (strippedBody == null)
+            return renderFunction;
+
+        return "var " + INSTANCE_VARIABLE + "=this;" + strippedBody;
+    }
+
+    /**
+     * Process the code.
+     * @return The processed code, or null if something unexpected was found
+     */
+    private String process()
+    {
+        scopes.push(new Scope(0));
+        while (position < code.length())
+        {
+            char c = code.charAt(position);
+            boolean processed;
+            if (Character.isWhitespace(c))
+            {
+                result.append(c);
+                position++;
+                continue;
+            }
+            else if (Character.isJavaIdentifierStart(c))
+            {
+                processed = processIdentifier();
+            }
+            else if (Character.isDigit(c) || (c == '.' && isDigitAt(position + 1)))
+            {
+                processed = processNumber();
+            }
+            else if (c == '"' || c == '\'')
+            {
+                processed = processString(c);
+            }
+            else
+            {
+                processed = processPunctuator(c);
+            }
+
+            if (!processed)
+                return null;
+        }
+
+        if (braceDepth != 0 || parenDepth != 0 || inFunctionHeader)
+            return null;
+
+        return result.toString();
+    }
+
+    private boolean processIdentifier()
+    {
+        int start = position;
+        while (position < code.length() && Character.isJavaIdentifierPart(code.charAt(position)))
+            position++;
+
+        String identifier = code.substring(start, position);
+
+        if (inFunctionHeader)
+        {
+            // Function name or parameter
+            if (functionParameters != null)
+                functionParameters.add(identifier);
+            result.append(identifier);
+        }
+        else if (inVarDeclaration && expectVarName)
+        {
+            scopes.peek().declare(identifier);
+            expectVarName = false;
+            result.append(identifier);
+        }
+        else if (isObjectKey())
+        {
+            if (KEYWORDS.contains(identifier) || FUTURE_RESERVED_WORDS.contains(identifier))
+                result.append('"').append(identifier).append('"');
+            else
+                result.append(identifier);
+        }
+        else if ("function".equals(identifier))
+        {
+            inFunctionHeader = true;
+            result.append(identifier);
+        }
+        else if ("var".equals(identifier))
+        {
+            inVarDeclaration = true;
+            expectVarName = true;
+            varDeclarationParenDepth = parenDepth;
+            varDeclarationBraceDepth = braceDepth;
+            result.append(identifier);
+        }
+        else if (".".equals(previousToken) || KEYWORDS.contains(identifier) || ALLOWED_GLOBALS
+            .contains(identifier) || isLocal(identifier))
+        {
+            result.append(identifier);
+        }
+        else
+        {
+            result.append(INSTANCE_VARIABLE).append('.').append(identifier);
+        }
+
+        previousToken = identifier;
+        return true;
+    }
+
+    private boolean processNumber()
+    {
+        int start = position;
+        while (position < code.length())
+        {
+            char c = code.charAt(position);
+            boolean isExponentSign = (c == '+' || c == '-') && (code.charAt(position - 1) == 'e'
+                || code.charAt(position - 1) == 'E') && !code
+                .substring(start, position)
+                .startsWith("0x");
+
+            if (!Character.isLetterOrDigit(c) && c != '.' && !isExponentSign)
+                break;
+
+            position++;
+        }
+
+        String number = code.substring(start, position);
+        result.append(number);
+        previousToken = number;
+        return true;
+    }
+
+    private boolean processString(char quote)
+    {
+        int start = position;
+        position++;
+        while (position < code.length())
+        {
+            char c = code.charAt(position);
+            if (c == '\\')
+            {
+                position += 2;
+                continue;
+            }
+
+            position++;
+            if (c == quote)
+            {
+                String string = code.substring(start, position);
+                result.append(string);
+                previousToken = string;
+                return true;
+            }
+        }
+
+        // Unterminated String
+        return false;
+    }
+
+    private boolean processPunctuator(char c)
+    {
+        if (c == '/')
+        {
+            // Comments and regular expressions are never generated by the template compiler
+            if (isCharAt(position + 1, '/') || isCharAt(position + 1, '*') || !isValueEnd(
+                previousToken))
+                return false;
+        }
+
+        // Template literals and arrow functions have their own scoping rules we don't handle
+        if (c == '`' || (c == '=' && isCharAt(position + 1, '>')))
+            return false;
+
+        if (inFunctionHeader)
+        {
+            if (c == '(')
+            {
+                functionParameters = new HashSet<>();
+            }
+            else if (c == '{')
+            {
+                if (functionParameters == null)
+                    return false;
+
+                inFunctionHeader = false;
+                braceDepth++;
+                Scope scope = new Scope(braceDepth);
+                functionParameters.forEach(scope::declare);
+                scopes.push(scope);
+                functionParameters = null;
+                return appendPunctuator(c);
+            }
+            else if (c != ')' && c != ',')
+            {
+                return false;
+            }
+            return appendPunctuator(c);
+        }
+
+        switch (c)
+        {
+            case '{':
+                braceDepth++;
+                break;
+            case '}':
+                if (braceDepth == 0)
+                    return false;
+                if (scopes.peek().braceDepth == braceDepth)
+                    scopes.pop();
+                braceDepth--;
+                break;
+            case '(':
+            case '[':
+                parenDepth++;
+                break;
+            case ')':
+            case ']':
+                if (parenDepth == 0)
+                    return false;
+                parenDepth--;
+                break;
+            default:
+                break;
+        }
+
+        if (inVarDeclaration && parenDepth == varDeclarationParenDepth
+            && braceDepth == varDeclarationBraceDepth)
+        {
+            if (c == ',')
+                expectVarName = true;
+            else if (c == ';')
+                inVarDeclaration = false;
+        }
+
+        return appendPunctuator(c);
+    }
+
+    private boolean appendPunctuator(char c)
+    {
+        result.append(c);
+        position++;
+        previousToken = String.valueOf(c);
+        return true;
+    }
+
+    /**
+     * Check if the current identifier is a key in an object literal, meaning it comes after a
+     * "{" or a "," and is followed by ":".
+     * @return True if we are on an object key
+     */
+    private boolean isObjectKey()
+    {
+        if (!"{".equals(previousToken) && !",".equals(previousToken))
+            return false;
+
+        int next = position;
+        while (next < code.length() && Character.isWhitespace(code.charAt(next)))
+            next++;
+
+        return isCharAt(next, ':');
+    }
+
+    private boolean isLocal(String identifier)
+    {
+        for (Scope scope : scopes)
+        {
+            if (scope.isDeclared(identifier))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if a token can end a value. If it does a following "/" is a division, otherwise it
+     * would start a regular expression.
+     * @param token The token to check
+     * @return True if a "/" after it is a division
+     */
+    private boolean isValueEnd(String token)
+    {
+        if (token == null)
+            return false;
+
+        char last = token.charAt(token.length() - 1);
+        if (last == ')' || last == ']' || last == '"' || last == '\'')
+            return true;
+
+        return Character.isJavaIdentifierPart(last) && !KEYWORDS.contains(token);
+    }
+
+    private boolean isCharAt(int index, char c)
+    {
+        return index < code.length() && code.charAt(index) == c;
+    }
+
+    private boolean isDigitAt(int index)
+    {
+        return index < code.length() && Character.isDigit(code.charAt(index));
+    }
+
+    /**
+     * A JS function scope, with the local variables declared in it.
+     */
+    private static class Scope
+    {
+        private final int braceDepth;
+        private final Set<String> localVariables = new HashSet<>();
+
+        private Scope(int braceDepth)
+        {
+            this.braceDepth = braceDepth;
+        }
+
+        private void declare(String variable)
+        {
+            localVariables.add(variable);
+        }
+
+        private boolean isDeclared(String variable)
+        {
+            return localVariables.contains(variable);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An element of the template AST.
+ * Fields have the same name and meaning as the properties of elements in the AST of the
+ * vue-template-compiler. Unset properties are null.
+ * @author Adrien Baron
+ */
+class AstElement extends AstNode
+{
+    final String tag;
+    final AstElement parent;
+    final List<Attribute> attrsList = new ArrayList<>();
+    final Map<String, String> attrsMap = new HashMap<>();
+    final List<AstNode> children = new ArrayList<>();
+
+    String ns;
+    boolean plain;
+
+    // v-for
+    String forExpression;
+    String alias;
+    String iterator1;
+    String iterator2;
+
+    // v-if, v-else-if, v-else
+    String ifExpression;
+    String elseIfExpression;
+    boolean isElse;
+    List<IfCondition> ifConditions;
+
+    String key;
+    String ref;
+    boolean refInFor;
+
+    String staticClass;
+    String classBinding;
+    String staticStyle;
+    String styleBinding;
+
+    boolean hasBindings;
+    List<Attribute> attrs;
+    List<Attribute> props;
+    Map<String, List<Handler>> events;
+    Map<String, List<Handler>> nativeEvents;
+    List<Directive> directives;
+
+    // Optimization
+    boolean staticRoot;
+    boolean staticInFor;
+
+    // Code generation
+    boolean staticProcessed;
+    boolean forProcessed;
+    boolean ifProcessed;
+
+    AstElement(String tag, AstElement parent)
+    {
+        this.tag = tag;
+        this.parent = parent;
+    }
+
+    void addAttribute(String name, String value)
+    {
+        attrsList.add(new Attribute(name, value));
+        attrsMap.put(name, value);
+    }
+
+    /**
+     * Remove an attribute from the list of attributes to process.
+     * It is kept in the attribute map.
+     * @param name The name of the attribute
+     * @return The value of the attribute, or null if it doesn't exist
+     */
+    String getAndRemoveAttr(String name)
+    {
+        String value = attrsMap.get(name);
+        if (value == null)
+            return null;
+
+        Iterator<Attribute> iterator = attrsList.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().name.equals(name))
+            {
+                iterator.remove();
+                break;
+            }
+        }
+        return value;
+    }
+
+    void addIfCondition(String expression, AstElement block)
+    {
+        if (ifConditions == null)
+            ifConditions = new ArrayList<>();
+        ifConditions.add(new IfCondition(expression, block));
+    }
+
+    void addAttr(String name, String value)
+    {
+        if (attrs == null)
+            attrs = new ArrayList<>();
+        attrs.add(new Attribute(name, value));
+    }
+
+    void addProp(String name, String value)
+    {
+        if (props == null)
+            props = new ArrayList<>();
+        props.add(new Attribute(name, value));
+    }
+
+    void addDirective(Directive directive)
+    {
+        if (directives == null)
+            directives = new ArrayList<>();
+        directives.add(directive);
+    }
+
+    void addHandler(String name, Handler handler, boolean isNative)
+    {
+        Map<String, List<Handler>> handlers;
+        if (isNative)
+        {
+            if (nativeEvents == null)
+                nativeEvents = new LinkedHashMap<>();
+            handlers = nativeEvents;
+        }
+        else
+        {
+            if (events == null)
+                events = new LinkedHashMap<>();
+            handlers = events;
+        }
+
+        handlers.computeIfAbsent(name, n -> new ArrayList<>()).add(handler);
+    }
+
+    static class Attribute
+    {
+        final String name;
+        final String value;
+
+        Attribute(String name, String value)
+        {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    static class IfCondition
+    {
+        final String expression;
+        final AstElement block;
+
+        IfCondition(String expression, AstElement block)
+        {
+            this.expression = expression;
+            this.block = block;
+        }
+    }
+
+    static class Handler
+    {
+        final String value;
+        // Null if the handler never had modifiers
+        final Map<String, Boolean> modifiers;
+
+        Handler(String value, Map<String, Boolean> modifiers)
+        {
+            this.value = value;
+            this.modifiers = modifiers;
+        }
+    }
+
+    static class Directive
+    {
+        final String name;
+        final String rawName;
+        final String value;
+        final String arg;
+        final Map<String, Boolean> modifiers;
+
+        Directive(String name, String rawName, String value, String arg,
+            Map<String, Boolean> modifiers)
+        {
+            this.name = name;
+            this.rawName = rawName;
+            this.value = value;
+            this.arg = arg;
+            this.modifiers = modifiers;
+        }
+    }
+}
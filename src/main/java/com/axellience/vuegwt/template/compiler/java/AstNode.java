@@ -0,0 +1,13 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+/**
+ * A node of the template AST, mirroring the AST of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+abstract class AstNode
+{
+    /**
+     * The node and all its descendants never change, see {@link StaticOptimizer}.
+     */
+    boolean isStatic;
+}
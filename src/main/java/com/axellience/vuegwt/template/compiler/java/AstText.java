@@ -0,0 +1,28 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+/**
+ * A text node of the template AST.
+ * It's either a plain text, or a text containing mustache expressions.
+ * @author Adrien Baron
+ */
+class AstText extends AstNode
+{
+    final String text;
+    final String expression;
+
+    /**
+     * Create a text node.
+     * @param text The text of the node
+     * @param expression The JS expression for the text, if it contains mustaches. Null otherwise
+     */
+    AstText(String text, String expression)
+    {
+        this.text = text;
+        this.expression = expression;
+    }
+
+    boolean isExpression()
+    {
+        return expression != null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+import com.axellience.vuegwt.template.compiler.TemplateCompilerBackend;
+import com.axellience.vuegwt.template.compiler.UnsupportedTemplateException;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.ParseSettings;
+import org.jsoup.parser.Parser;
+
+import java.util.List;
+
+/**
+ * A {@link TemplateCompilerBackend} written in Java, avoiding the cost of starting a JS engine.
+ * <br>
+ * It's a port of the vue-template-compiler, limited to templates processed by the template
+ * parser. The template is parsed again with jsoup, and the generated code is the same as the
+ * vue-template-compiler's. Templates using features that are not ported, or that jsoup and Vue
+ * would parse differently, throw an {@link UnsupportedTemplateException}.
+ * @author Adrien Baron
+ */
+public class JavaTemplateCompilerBackend implements TemplateCompilerBackend
+{
+    public static final String NAME = "java";
+
+    @Override
+    public VueTemplateCompilerResult compile(String htmlTemplate)
+    throws UnsupportedTemplateException
+    {
+        Parser parser = Parser.htmlParser();
+        parser.settings(new ParseSettings(true, true)); // tag, attribute preserve case
+        Document document = parser.parseInput(htmlTemplate, "");
+
+        AstElement root = new TemplateAstBuilder().build(document);
+        new StaticOptimizer().optimize(root);
+
+        RenderFunctionGenerator generator = new RenderFunctionGenerator();
+        generator.generate(root);
+
+        List<String> staticRenderFunctions = generator.getStaticRenderFunctions();
+        return new VueTemplateCompilerResult(generator.getRender(),
+            staticRenderFunctions.toArray(new String[staticRenderFunctions.size()]));
+    }
+
+    @Override
+    public String getName()
+    {
+        return NAME;
+    }
+}
@@ -0,0 +1,329 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reproduce the behavior of the JS functions used by the vue-template-compiler, so our results
+ * are the same.
+ * @author Adrien Baron
+ */
+final class JsUtil
+{
+    /**
+     * JS "\s" character class.
+     */
+    static final String WHITESPACE =
+        "[\\t\\n\\u000B\\f\\r \\u00A0\\u1680\\u180E\\u2000-\\u200A\\u2028\\u2029\\u202F\\u205F\\u3000\\uFEFF]";
+
+    /**
+     * JS "." character class (anything but a line terminator).
+     */
+    static final String ANY = "[^\\n\\r\\u2028\\u2029]";
+
+    private static final Pattern VALID_DIVISION_CHAR = Pattern.compile("[\\w).+\\-_$\\]]");
+    private static final Pattern ARRAY_INDEX = Pattern.compile("0|[1-9][0-9]{0,9}");
+
+    private JsUtil()
+    {
+    }
+
+    /**
+     * Same as JSON.stringify on a String.
+     * @param value The String to stringify
+     * @return The value as a JSON String literal
+     */
+    static String stringify(String value)
+    {
+        StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            switch (c)
+            {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\b':
+                    result.append("\\b");
+                    break;
+                case '\f':
+                    result.append("\\f");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20)
+                        result.append(String.format("\\u%04x", (int) c));
+                    else
+                        result.append(c);
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    /**
+     * Same as JSON.stringify on a JS object with the given String values.
+     * @param object The object to stringify
+     * @return The object as a JSON literal
+     */
+    static String stringify(Map<String, ?> object)
+    {
+        StringBuilder result = new StringBuilder("{");
+        for (String key : orderKeys(object.keySet()))
+        {
+            if (result.length() > 1)
+                result.append(',');
+
+            Object value = object.get(key);
+            result
+                .append(stringify(key))
+                .append(':')
+                .append(value instanceof String ? stringify((String) value) : value);
+        }
+        return result.append('}').toString();
+    }
+
+    /**
+     * Escape line and paragraph separators, which are not valid in JS String literals.
+     * @param text The text to transform
+     * @return The transformed text
+     */
+    static String transformSpecialNewlines(String text)
+    {
+        return text.replace("\u2028", "\\u2028").replace("\u2029", "\\u2029");
+    }
+
+    /**
+     * Same as String.prototype.trim in JS.
+     * @param value The String to trim
+     * @return The trimmed String
+     */
+    static String trim(String value)
+    {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isWhitespace(value.charAt(start)))
+            start++;
+        while (end > start && isWhitespace(value.charAt(end - 1)))
+            end--;
+        return value.substring(start, end);
+    }
+
+    /**
+     * Check if a character is a whitespace or a line terminator in JS.
+     * @param c The character to check
+     * @return True if it's a whitespace
+     */
+    static boolean isWhitespace(char c)
+    {
+        return c == '\t'
+            || c == '\n'
+            || c == '\u000B'
+            || c == '\f'
+            || c == '\r'
+            || c == ' '
+            || c == '\u00A0'
+            || c == '\u1680'
+            || c == '\u180E'
+            || (c >= '\u2000' && c <= '\u200A')
+            || c == '\u2028'
+            || c == '\u2029'
+            || c == '\u202F'
+            || c == '\u205F'
+            || c == '\u3000'
+            || c == '\uFEFF';
+    }
+
+    /**
+     * Order keys the same way they are iterated on in a JS object: array indexes first in
+     * ascending order, then the other keys in insertion order.
+     * @param keys The keys, in insertion order
+     * @return The keys in iteration order
+     */
+    static List<String> orderKeys(Collection<String> keys)
+    {
+        List<String> indexes = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        for (String key : keys)
+        {
+            if (ARRAY_INDEX.matcher(key).matches() && Long.parseLong(key) < 4294967295L)
+                indexes.add(key);
+            else
+                others.add(key);
+        }
+
+        indexes.sort((a, b) -> Long.compare(Long.parseLong(a), Long.parseLong(b)));
+        indexes.addAll(others);
+        return indexes;
+    }
+
+    /**
+     * Port of the "parseFilters" function of the vue-template-compiler.
+     * Extract the filters from an expression, and wrap the expression with calls to them.
+     * @param expression The expression to process, like "value | capitalize"
+     * @return The expression with its filters applied
+     */
+    static String parseFilters(String expression)
+    {
+        boolean inSingle = false;
+        boolean inDouble = false;
+        boolean inTemplateString = false;
+        boolean inRegex = false;
+        int curly = 0;
+        int square = 0;
+        int paren = 0;
+        int lastFilterIndex = 0;
+        int c = -1;
+        int prev;
+        String result = null;
+        List<String> filters = null;
+
+        int i;
+        for (i = 0; i < expression.length(); i++)
+        {
+            prev = c;
+            c = expression.charAt(i);
+            if (inSingle)
+            {
+                if (c == '\'' && prev != '\\')
+                    inSingle = false;
+            }
+            else if (inDouble)
+            {
+                if (c == '"' && prev != '\\')
+                    inDouble = false;
+            }
+            else if (inTemplateString)
+            {
+                if (c == '`' && prev != '\\')
+                    inTemplateString = false;
+            }
+            else if (inRegex)
+            {
+                if (c == '/' && prev != '\\')
+                    inRegex = false;
+            }
+            else if (c == '|' && charAt(expression, i + 1) != '|' && charAt(expression,
+                i - 1) != '|' && curly == 0 && square == 0 && paren == 0)
+            {
+                if (result == null)
+                {
+                    // First filter, end of expression
+                    lastFilterIndex = i + 1;
+                    result = trim(expression.substring(0, i));
+                }
+                else
+                {
+                    if (filters == null)
+                        filters = new ArrayList<>();
+                    filters.add(trim(expression.substring(lastFilterIndex, i)));
+                    lastFilterIndex = i + 1;
+                }
+            }
+            else
+            {
+                switch (c)
+                {
+                    case '"':
+                        inDouble = true;
+                        break;
+                    case '\'':
+                        inSingle = true;
+                        break;
+                    case '`':
+                        inTemplateString = true;
+                        break;
+                    case '(':
+                        paren++;
+                        break;
+                    case ')':
+                        paren--;
+                        break;
+                    case '[':
+                        square++;
+                        break;
+                    case ']':
+                        square--;
+                        break;
+                    case '{':
+                        curly++;
+                        break;
+                    case '}':
+                        curly--;
+                        break;
+                    default:
+                        break;
+                }
+
+                if (c == '/')
+                {
+                    // Find first non-whitespace previous char
+                    String p = null;
+                    for (int j = i - 1; j >= 0; j--)
+                    {
+                        p = String.valueOf(expression.charAt(j));
+                        if (!" ".equals(p))
+                            break;
+                    }
+                    if (p == null || !VALID_DIVISION_CHAR.matcher(p).matches())
+                        inRegex = true;
+                }
+            }
+        }
+
+        if (result == null)
+        {
+            result = trim(expression.substring(0, i));
+        }
+        else if (lastFilterIndex != 0)
+        {
+            if (filters == null)
+                filters = new ArrayList<>();
+            filters.add(trim(expression.substring(lastFilterIndex, i)));
+        }
+
+        if (filters != null)
+        {
+            for (String filter : filters)
+                result = wrapFilter(result, filter);
+        }
+
+        return result;
+    }
+
+    private static String wrapFilter(String expression, String filter)
+    {
+        int i = filter.indexOf('(');
+        if (i < 0)
+            return "_f(\"" + filter + "\")(" + expression + ")";
+
+        String name = filter.substring(0, i);
+        String args = filter.substring(i + 1);
+        return "_f(\"" + name + "\")(" + expression + "," + args;
+    }
+
+    /**
+     * Same as String.prototype.charCodeAt, but returning -1 instead of NaN when out of bounds.
+     */
+    private static int charAt(String value, int index)
+    {
+        if (index < 0 || index >= value.length())
+            return -1;
+
+        return value.charAt(index);
+    }
+}
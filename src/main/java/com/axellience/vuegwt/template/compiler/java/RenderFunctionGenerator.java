@@ -0,0 +1,492 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+import com.axellience.vuegwt.template.compiler.UnsupportedTemplateException;
+import com.axellience.vuegwt.template.compiler.java.AstElement.Attribute;
+import com.axellience.vuegwt.template.compiler.java.AstElement.Directive;
+import com.axellience.vuegwt.template.compiler.java.AstElement.Handler;
+import com.axellience.vuegwt.template.compiler.java.AstElement.IfCondition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.axellience.vuegwt.template.compiler.java.JsUtil.ANY;
+import static com.axellience.vuegwt.template.compiler.java.JsUtil.WHITESPACE;
+
+/**
+ * Generate the JS render functions from an optimized template AST.
+ * <br>
+ * This is a port of the "generate" function of the vue-template-compiler. The generated code
+ * must be exactly the same, so templates compile the same way with every backend.
+ * @author Adrien Baron
+ */
+class RenderFunctionGenerator
+{
+    private static final Pattern FUNCTION_EXPRESSION = Pattern.compile("^"
+        + WHITESPACE
+        + "*([\\w$_]+|\\([^)]*?\\))"
+        + WHITESPACE
+        + "*=>|^function"
+        + WHITESPACE
+        + "*\\(");
+    private static final Pattern SIMPLE_PATH = Pattern.compile("^"
+        + WHITESPACE
+        + "*[A-Za-z_$][\\w$]*(?:\\.[A-Za-z_$][\\w$]*|\\['"
+        + ANY
+        + "*?']|\\[\""
+        + ANY
+        + "*?\"]|\\[\\d+]|\\[[A-Za-z_$][\\w$]*])*"
+        + WHITESPACE
+        + "*$");
+    private static final Pattern PARSE_INT = Pattern.compile("^" + WHITESPACE + "*([+-]?\\d+)");
+
+    private static final Map<String, String> MODIFIER_CODES = new HashMap<>();
+    private static final Map<String, String> KEY_CODES = new HashMap<>();
+
+    static
+    {
+        MODIFIER_CODES.put("stop", "$event.stopPropagation();");
+        MODIFIER_CODES.put("prevent", "$event.preventDefault();");
+        MODIFIER_CODES.put("self", guard("$event.target !== $event.currentTarget"));
+        MODIFIER_CODES.put("ctrl", guard("!$event.ctrlKey"));
+        MODIFIER_CODES.put("shift", guard("!$event.shiftKey"));
+        MODIFIER_CODES.put("alt", guard("!$event.altKey"));
+        MODIFIER_CODES.put("meta", guard("!$event.metaKey"));
+        MODIFIER_CODES.put("left", guard("'button' in $event && $event.button !== 0"));
+        MODIFIER_CODES.put("middle", guard("'button' in $event && $event.button !== 1"));
+        MODIFIER_CODES.put("right", guard("'button' in $event && $event.button !== 2"));
+
+        KEY_CODES.put("esc", "27");
+        KEY_CODES.put("tab", "9");
+        KEY_CODES.put("enter", "13");
+        KEY_CODES.put("space", "32");
+        KEY_CODES.put("up", "38");
+        KEY_CODES.put("left", "37");
+        KEY_CODES.put("right", "39");
+        KEY_CODES.put("down", "40");
+        KEY_CODES.put("delete", "[8,46]");
+    }
+
+    private final List<String> staticRenderFunctions = new ArrayList<>();
+    private String render;
+
+    /**
+     * Generate the render functions for the given AST.
+     * @param root The root element of the optimized AST, can be null
+     * @throws UnsupportedTemplateException If the template uses a feature we don't support
+     */
+    void generate(AstElement root) throws UnsupportedTemplateException
+    {
+        String code = root == null ? "_c(\"div\")" : genElement(root);
+        render = "with(this){return " + code + "}";
+    }
+
+    String getRender()
+    {
+        return render;
+    }
+
+    List<String> getStaticRenderFunctions()
+    {
+        return staticRenderFunctions;
+    }
+
+    private String genElement(AstElement element) throws UnsupportedTemplateException
+    {
+        if (element.staticRoot && !element.staticProcessed)
+            return genStatic(element);
+
+        if (element.forExpression != null && !element.forProcessed)
+            return genFor(element);
+
+        if (element.ifExpression != null && !element.ifProcessed)
+            return genIf(element);
+
+        if ("template".equals(element.tag))
+        {
+            String children = genChildren(element, false);
+            return children == null ? "void 0" : children;
+        }
+
+        String data = element.plain ? null : genData(element);
+        String children = genChildren(element, true);
+        return "_c('"
+            + element.tag
+            + "'"
+            + (data != null ? "," + data : "")
+            + (children != null ? "," + children : "")
+            + ")";
+    }
+
+    /**
+     * Hoist static sub-trees out.
+     */
+    private String genStatic(AstElement element) throws UnsupportedTemplateException
+    {
+        element.staticProcessed = true;
+        staticRenderFunctions.add("with(this){return " + genElement(element) + "}");
+        return "_m(" + (staticRenderFunctions.size() - 1) + (element.staticInFor ? ",true" : "") + ")";
+    }
+
+    private String genIf(AstElement element) throws UnsupportedTemplateException
+    {
+        element.ifProcessed = true;
+        return genIfConditions(element.ifConditions, 0);
+    }
+
+    private String genIfConditions(List<IfCondition> conditions, int index)
+    throws UnsupportedTemplateException
+    {
+        if (index >= conditions.size())
+            return "_e()";
+
+        IfCondition condition = conditions.get(index);
+        if (condition.expression == null || condition.expression.isEmpty())
+            return genElement(condition.block);
+
+        return "("
+            + condition.expression
+            + ")?"
+            + genElement(condition.block)
+            + ":"
+            + genIfConditions(conditions, index + 1);
+    }
+
+    private String genFor(AstElement element) throws UnsupportedTemplateException
+    {
+        String iterator1 = isEmpty(element.iterator1) ? "" : "," + element.iterator1;
+        String iterator2 = isEmpty(element.iterator2) ? "" : "," + element.iterator2;
+
+        element.forProcessed = true;
+        return "_l(("
+            + element.forExpression
+            + "),function("
+            + element.alias
+            + iterator1
+            + iterator2
+            + "){return "
+            + genElement(element)
+            + "})";
+    }
+
+    private String genData(AstElement element) throws UnsupportedTemplateException
+    {
+        StringBuilder data = new StringBuilder("{");
+
+        // Directives first, they may add properties to the element
+        String directives = genDirectives(element);
+        if (directives != null)
+            data.append(directives).append(",");
+
+        if (element.key != null)
+            data.append("key:").append(element.key).append(",");
+        if (element.ref != null)
+            data.append("ref:").append(element.ref).append(",");
+        if (element.refInFor)
+            data.append("refInFor:true,");
+
+        if (element.staticClass != null)
+            data.append("staticClass:").append(element.staticClass).append(",");
+        if (element.classBinding != null)
+            data.append("class:").append(element.classBinding).append(",");
+        if (element.staticStyle != null)
+            data.append("staticStyle:").append(element.staticStyle).append(",");
+        if (element.styleBinding != null)
+            data.append("style:(").append(element.styleBinding).append("),");
+
+        if (element.attrs != null)
+            data.append("attrs:{").append(genProps(element.attrs)).append("},");
+        if (element.props != null)
+            data.append("domProps:{").append(genProps(element.props)).append("},");
+
+        if (element.events != null)
+            data.append(genHandlers(element.events, false)).append(",");
+        if (element.nativeEvents != null)
+            data.append(genHandlers(element.nativeEvents, true)).append(",");
+
+        if (data.charAt(data.length() - 1) == ',')
+            data.setLength(data.length() - 1);
+        return data.append("}").toString();
+    }
+
+    private String genDirectives(AstElement element)
+    {
+        if (element.directives == null)
+            return null;
+
+        StringBuilder result = new StringBuilder("directives:[");
+        boolean hasRuntime = false;
+        for (Directive directive : element.directives)
+        {
+            if (!needRuntime(element, directive))
+                continue;
+
+            hasRuntime = true;
+            result.append("{name:\"").append(directive.name).append("\",rawName:\"").append(
+                directive.rawName).append("\"");
+            if (!isEmpty(directive.value))
+            {
+                result
+                    .append(",value:(")
+                    .append(directive.value)
+                    .append("),expression:")
+                    .append(JsUtil.stringify(directive.value));
+            }
+            if (!isEmpty(directive.arg))
+                result.append(",arg:\"").append(directive.arg).append("\"");
+            if (directive.modifiers != null)
+                result.append(",modifiers:").append(JsUtil.stringify(directive.modifiers));
+            result.append("},");
+        }
+
+        if (!hasRuntime)
+            return null;
+
+        result.setLength(result.length() - 1);
+        return result.append("]").toString();
+    }
+
+    /**
+     * Apply compile time directives to the element.
+     * @return True if the directive also needs to be processed at runtime
+     */
+    private boolean needRuntime(AstElement element, Directive directive)
+    {
+        switch (directive.name)
+        {
+            case "text":
+                if (!isEmpty(directive.value))
+                    element.addProp("textContent", "_s(" + directive.value + ")");
+                return false;
+            case "html":
+                if (!isEmpty(directive.value))
+                    element.addProp("innerHTML", "_s(" + directive.value + ")");
+                return false;
+            case "cloak":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private String genProps(List<Attribute> props)
+    {
+        StringBuilder result = new StringBuilder();
+        for (Attribute prop : props)
+        {
+            if (result.length() > 0)
+                result.append(",");
+            result
+                .append("\"")
+                .append(prop.name)
+                .append("\":")
+                .append(JsUtil.transformSpecialNewlines(prop.value));
+        }
+        return result.toString();
+    }
+
+    private String genHandlers(Map<String, List<Handler>> events, boolean isNative)
+    throws UnsupportedTemplateException
+    {
+        StringBuilder result = new StringBuilder(isNative ? "nativeOn:{" : "on:{");
+        for (String name : JsUtil.orderKeys(events.keySet()))
+        {
+            List<Handler> handlers = events.get(name);
+            result.append("\"").append(name).append("\":");
+            if (handlers.size() == 1)
+            {
+                result.append(genHandler(handlers.get(0)));
+            }
+            else
+            {
+                List<String> handlersCode = new ArrayList<>();
+                for (Handler handler : handlers)
+                    handlersCode.add(genHandler(handler));
+                result.append("[").append(String.join(",", handlersCode)).append("]");
+            }
+            result.append(",");
+        }
+
+        result.setLength(result.length() - 1);
+        return result.append("}").toString();
+    }
+
+    private String genHandler(Handler handler) throws UnsupportedTemplateException
+    {
+        boolean isMethodPath = SIMPLE_PATH.matcher(handler.value).find();
+        boolean isFunctionExpression = FUNCTION_EXPRESSION.matcher(handler.value).find();
+
+        if (handler.modifiers == null)
+        {
+            if (isMethodPath || isFunctionExpression)
+                return handler.value;
+
+            // Inline statement
+            return "function($event){" + handler.value + "}";
+        }
+
+        StringBuilder modifiersCode = new StringBuilder();
+        List<String> keys = new ArrayList<>();
+        for (String key : JsUtil.orderKeys(handler.modifiers.keySet()))
+        {
+            String modifierCode = MODIFIER_CODES.get(key);
+            if (modifierCode != null)
+            {
+                modifiersCode.append(modifierCode);
+                // left and right are both modifiers and keys
+                if (KEY_CODES.containsKey(key))
+                    keys.add(key);
+            }
+            else
+            {
+                keys.add(key);
+            }
+        }
+
+        StringBuilder code = new StringBuilder();
+        // Make sure modifiers like prevent and stop get executed after key filtering
+        if (!keys.isEmpty())
+            code.append(genKeyFilter(keys));
+        code.append(modifiersCode);
+
+        String handlerCode;
+        if (isMethodPath)
+            handlerCode = handler.value + "($event)";
+        else if (isFunctionExpression)
+            handlerCode = "(" + handler.value + ")($event)";
+        else
+            handlerCode = handler.value;
+
+        return "function($event){" + code + handlerCode + "}";
+    }
+
+    private String genKeyFilter(List<String> keys) throws UnsupportedTemplateException
+    {
+        List<String> filters = new ArrayList<>();
+        for (String key : keys)
+            filters.add(genFilterCode(key));
+
+        return "if(!('button' in $event)&&" + String.join("&&", filters) + ")return null;";
+    }
+
+    private String genFilterCode(String key) throws UnsupportedTemplateException
+    {
+        // Same as parseInt(key, 10) in JS
+        Matcher matcher = PARSE_INT.matcher(key);
+        if (matcher.find())
+        {
+            String keyCode = matcher.group(1);
+            if (keyCode.length() > 10)
+                throw new UnsupportedTemplateException("Unsupported template feature: key code "
+                    + keyCode);
+
+            long keyValue = Long.parseLong(keyCode);
+            if (keyValue != 0)
+                return "$event.keyCode!==" + keyValue;
+        }
+
+        String alias = KEY_CODES.get(key);
+        return "_k($event.keyCode," + JsUtil.stringify(key) + (alias != null ? "," + alias : "") + ")";
+    }
+
+    private String genChildren(AstElement element, boolean checkSkip)
+    throws UnsupportedTemplateException
+    {
+        List<AstNode> children = element.children;
+        if (children.isEmpty())
+            return null;
+
+        // Optimize single v-for
+        AstNode firstChild = children.get(0);
+        if (children.size() == 1 && firstChild instanceof AstElement)
+        {
+            AstElement firstElement = (AstElement) firstChild;
+            if (firstElement.forExpression != null && !"template".equals(firstElement.tag))
+                return genElement(firstElement);
+        }
+
+        int normalizationType = checkSkip ? getNormalizationType(children) : 0;
+        List<String> childrenCode = new ArrayList<>();
+        for (AstNode child : children)
+        {
+            if (child instanceof AstElement)
+                childrenCode.add(genElement((AstElement) child));
+            else
+                childrenCode.add(genText((AstText) child));
+        }
+
+        return "["
+            + String.join(",", childrenCode)
+            + "]"
+            + (normalizationType != 0 ? "," + normalizationType : "");
+    }
+
+    /**
+     * Determine the normalization needed for the children array.
+     * 0: no normalization needed
+     * 1: simple normalization needed (possible 1-level deep nested array)
+     * 2: full normalization needed
+     */
+    private int getNormalizationType(List<AstNode> children)
+    {
+        int result = 0;
+        for (AstNode child : children)
+        {
+            if (!(child instanceof AstElement))
+                continue;
+
+            AstElement element = (AstElement) child;
+            if (needsNormalization(element) || anyIfBlock(element, true))
+                return 2;
+
+            if (maybeComponent(element) || anyIfBlock(element, false))
+                result = 1;
+        }
+        return result;
+    }
+
+    private boolean anyIfBlock(AstElement element, boolean needsNormalization)
+    {
+        if (element.ifConditions == null)
+            return false;
+
+        for (IfCondition condition : element.ifConditions)
+        {
+            if (needsNormalization ? needsNormalization(condition.block) : maybeComponent(
+                condition.block))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean needsNormalization(AstElement element)
+    {
+        return element.forExpression != null || "template".equals(element.tag);
+    }
+
+    private boolean maybeComponent(AstElement element)
+    {
+        return !TemplateAstBuilder.isReservedTag(element.tag);
+    }
+
+    private String genText(AstText text)
+    {
+        if (text.isExpression())
+            return "_v(" + text.expression + ")";
+
+        return "_v(" + JsUtil.transformSpecialNewlines(JsUtil.stringify(text.text)) + ")";
+    }
+
+    private static String guard(String condition)
+    {
+        return "if(" + condition + ")return null;";
+    }
+
+    private static boolean isEmpty(String value)
+    {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+/**
+ * Mark the static parts of the template AST.
+ * <br>
+ * This is a port of the "optimize" function of the vue-template-compiler. Static sub-trees are
+ * hoisted in static render functions, and skipped when patching the DOM.
+ * @author Adrien Baron
+ */
+class StaticOptimizer
+{
+    /**
+     * Mark static nodes and static roots in the given AST.
+     * @param root The root element of the AST, can be null
+     */
+    void optimize(AstElement root)
+    {
+        if (root == null)
+            return;
+
+        markStatic(root);
+        markStaticRoots(root, false);
+    }
+
+    private void markStatic(AstNode node)
+    {
+        node.isStatic = isStatic(node);
+        if (!(node instanceof AstElement))
+            return;
+
+        AstElement element = (AstElement) node;
+        // Don't make component slot content static, it would prevent components from changing it
+        if (!TemplateAstBuilder.isReservedTag(element.tag))
+            return;
+
+        for (AstNode child : element.children)
+        {
+            markStatic(child);
+            if (!child.isStatic)
+                element.isStatic = false;
+        }
+
+        if (element.ifConditions == null)
+            return;
+
+        for (int i = 1; i < element.ifConditions.size(); i++)
+        {
+            AstElement block = element.ifConditions.get(i).block;
+            markStatic(block);
+            if (!block.isStatic)
+                element.isStatic = false;
+        }
+    }
+
+    private void markStaticRoots(AstElement element, boolean isInFor)
+    {
+        if (element.isStatic)
+            element.staticInFor = isInFor;
+
+        // For a node to qualify as a static root, it should have children that are not just
+        // static text. Otherwise the cost of hoisting out will outweigh the benefits.
+        if (element.isStatic && !element.children.isEmpty() && !(element.children.size() == 1
+            && element.children.get(0) instanceof AstText))
+        {
+            element.staticRoot = true;
+            return;
+        }
+
+        for (AstNode child : element.children)
+        {
+            if (child instanceof AstElement)
+                markStaticRoots((AstElement) child, isInFor || element.forExpression != null);
+        }
+
+        if (element.ifConditions == null)
+            return;
+
+        for (int i = 1; i < element.ifConditions.size(); i++)
+            markStaticRoots(element.ifConditions.get(i).block, isInFor);
+    }
+
+    private boolean isStatic(AstNode node)
+    {
+        if (node instanceof AstText)
+            return !((AstText) node).isExpression();
+
+        AstElement element = (AstElement) node;
+        return !element.hasBindings
+            && element.ifExpression == null
+            && element.forExpression == null
+            && !"slot".equals(element.tag)
+            && !"component".equals(element.tag)
+            && TemplateAstBuilder.isReservedTag(element.tag)
+            && !isDirectChildOfTemplateFor(element)
+            && hasOnlyStaticProperties(element);
+    }
+
+    /**
+     * Same as checking that all the keys of the element are static keys in the
+     * vue-template-compiler. Template elements always have a "slotScope" key.
+     */
+    private boolean hasOnlyStaticProperties(AstElement element)
+    {
+        return !"template".equals(element.tag)
+            && element.ns == null
+            && element.key == null
+            && element.ref == null
+            && element.ifConditions == null
+            && element.elseIfExpression == null
+            && !element.isElse
+            && element.classBinding == null
+            && element.styleBinding == null
+            && element.props == null
+            && element.events == null
+            && element.nativeEvents == null
+            && element.directives == null;
+    }
+
+    private boolean isDirectChildOfTemplateFor(AstElement element)
+    {
+        AstElement parent = element.parent;
+        while (parent != null)
+        {
+            if (!"template".equals(parent.tag))
+                return false;
+            if (parent.forExpression != null)
+                return true;
+            parent = parent.parent;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,640 @@
+package com.axellience.vuegwt.template.compiler.java;
+
+import com.axellience.vuegwt.template.compiler.UnsupportedTemplateException;
+import com.axellience.vuegwt.template.compiler.java.AstElement.Attribute;
+import com.axellience.vuegwt.template.compiler.java.AstElement.Directive;
+import com.axellience.vuegwt.template.compiler.java.AstElement.Handler;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.axellience.vuegwt.template.compiler.java.JsUtil.ANY;
+import static com.axellience.vuegwt.template.compiler.java.JsUtil.WHITESPACE;
+
+/**
+ * Build the template AST from an HTML document parsed by jsoup.
+ * <br>
+ * This is a port of the "parse" function of the vue-template-compiler. The document must be the
+ * result of parsing an HTML template serialized by jsoup, so both parsers see the same tree.
+ * When a feature is not supported, an {@link UnsupportedTemplateException} is thrown.
+ * @author Adrien Baron
+ */
+class TemplateAstBuilder
+{
+    private static final Pattern TAG_NAME =
+        Pattern.compile("(?:[a-zA-Z_][\\w\\-.]*:)?[a-zA-Z_][\\w\\-.]*");
+    private static final Pattern ATTRIBUTE_NAME = Pattern.compile("[^\\s\"'<>/=]+");
+    private static final Pattern MUSTACHE = Pattern.compile("\\{\\{((?:" + ANY + "|\\n)+?)}}");
+
+    private static final Pattern ON = Pattern.compile("^@|^v-on:");
+    private static final Pattern DIRECTIVE = Pattern.compile("^v-|^@|^:");
+    private static final Pattern BIND = Pattern.compile("^:|^v-bind:");
+    private static final Pattern ARG = Pattern.compile(":(" + ANY + "*)$");
+    private static final Pattern MODIFIER = Pattern.compile("\\.[^.]+");
+    private static final Pattern FOR_ALIAS = Pattern.compile("("
+        + ANY
+        + "*?)"
+        + WHITESPACE
+        + "+(?:in|of)"
+        + WHITESPACE
+        + "+("
+        + ANY
+        + "*)");
+    private static final Pattern FOR_ITERATOR =
+        Pattern.compile("\\((\\{[^}]*}|[^,]*),([^,]*)(?:,([^,]*))?\\)");
+    private static final Pattern STYLE_LIST_DELIMITER = Pattern.compile(";(?![^(]*\\))");
+    private static final Pattern STYLE_PROPERTY_DELIMITER = Pattern.compile(":(" + ANY + "+)");
+
+    private static final Set<String> HTML_TAGS = set("html,body,base,head,link,meta,style,title,"
+        + "address,article,aside,footer,header,h1,h2,h3,h4,h5,h6,hgroup,nav,section,"
+        + "div,dd,dl,dt,figcaption,figure,picture,hr,img,li,main,ol,p,pre,ul,"
+        + "a,b,abbr,bdi,bdo,br,cite,code,data,dfn,em,i,kbd,mark,q,rp,rt,rtc,ruby,"
+        + "s,samp,small,span,strong,sub,sup,time,u,var,wbr,area,audio,map,track,video,"
+        + "embed,object,param,source,canvas,script,noscript,del,ins,"
+        + "caption,col,colgroup,table,thead,tbody,td,th,tr,"
+        + "button,datalist,fieldset,form,input,label,legend,meter,optgroup,option,"
+        + "output,progress,select,textarea,"
+        + "details,dialog,menu,menuitem,summary,"
+        + "content,element,shadow,template,blockquote,iframe,tfoot");
+    // Only lower case tags are supported, so foreignObject is never found (like in Vue)
+    private static final Set<String> SVG_TAGS =
+        set("svg,animate,circle,clippath,cursor,defs,desc,ellipse,filter,font-face,"
+            + "foreignObject,g,glyph,image,line,marker,mask,missing-glyph,path,pattern,"
+            + "polygon,polyline,rect,switch,symbol,text,textpath,tspan,use,view");
+    private static final Set<String> UNARY_TAGS =
+        set("area,base,br,col,embed,frame,hr,img,input,isindex,keygen,"
+            + "link,meta,param,source,track,wbr");
+    private static final Set<String> CAN_BE_LEFT_OPEN_TAGS =
+        set("colgroup,dd,dt,li,options,p,td,tfoot,th,thead,tr,source");
+    private static final Set<String> NON_PHRASING_TAGS =
+        set("address,article,aside,base,blockquote,body,caption,col,colgroup,dd,"
+            + "details,dialog,div,dl,dt,fieldset,figcaption,figure,footer,form,"
+            + "h1,h2,h3,h4,h5,h6,head,header,hgroup,hr,html,legend,li,menuitem,meta,"
+            + "optgroup,option,param,rp,rt,source,style,summary,tbody,td,tfoot,th,thead,"
+            + "title,tr,track");
+    private static final Set<String> ACCEPT_VALUE_TAGS = set("input,textarea,option,select");
+
+    /**
+     * Tags with special parsing rules (raw text, whitespace handling...) or features we don't
+     * support.
+     */
+    private static final Set<String> UNSUPPORTED_TAGS =
+        set("slot,component,script,style,pre,textarea,title,xmp,iframe,noembed,noframes,"
+            + "noscript,plaintext");
+
+    private AstElement root;
+
+    /**
+     * Build the AST for the given document.
+     * @param document A document parsed by jsoup
+     * @return The root element of the AST, or null if there is none
+     * @throws UnsupportedTemplateException If the template uses a feature we don't support
+     */
+    AstElement build(Document document) throws UnsupportedTemplateException
+    {
+        if (document.head().childNodeSize() > 0)
+            unsupported("elements moved to the head of the document");
+
+        for (Node node : document.body().childNodes())
+        {
+            // Text outside the root element is ignored
+            if (node instanceof Element)
+                processRootElement((Element) node);
+        }
+
+        return root;
+    }
+
+    private void processRootElement(Element element) throws UnsupportedTemplateException
+    {
+        if (root == null)
+        {
+            root = processElement(element, null);
+            return;
+        }
+
+        // Allow root elements with v-if, v-else-if and v-else, others are ignored
+        if (root.ifExpression == null)
+            return;
+
+        AstElement astElement = processElement(element, null);
+        if (astElement.elseIfExpression != null || astElement.isElse)
+            root.addIfCondition(astElement.elseIfExpression, astElement);
+    }
+
+    private AstElement processElement(Element element, AstElement parent)
+    throws UnsupportedTemplateException
+    {
+        String tag = element.tagName();
+        checkTag(element, parent);
+
+        AstElement astElement = new AstElement(tag, parent);
+        for (org.jsoup.nodes.Attribute attribute : element.attributes())
+        {
+            if (!ATTRIBUTE_NAME.matcher(attribute.getKey()).matches())
+                unsupported("attribute name \"" + attribute.getKey() + "\"");
+
+            // jsoup escapes non breaking spaces in attributes, and Vue doesn't decode them
+            astElement.addAttribute(attribute.getKey(),
+                attribute.getValue().replace("\u00A0", "&nbsp;"));
+        }
+
+        if (parent != null && parent.ns != null)
+            astElement.ns = parent.ns;
+        else if (SVG_TAGS.contains(tag))
+            astElement.ns = "svg";
+        else if ("math".equals(tag))
+            astElement.ns = "math";
+
+        processFor(astElement);
+        processIf(astElement);
+        processOnce(astElement);
+        processKey(astElement);
+
+        // Determine whether this is a plain element after removing structural attributes
+        astElement.plain = astElement.key == null && astElement.attrsList.isEmpty();
+
+        processRef(astElement);
+        processSlot(astElement);
+        processComponent(astElement);
+        processClass(astElement);
+        processStyle(astElement);
+        processAttrs(astElement);
+
+        if (parent != null)
+        {
+            if (astElement.elseIfExpression != null || astElement.isElse)
+                processIfConditions(astElement, parent);
+            else
+                parent.children.add(astElement);
+        }
+
+        for (Node child : element.childNodes())
+        {
+            if (child instanceof Element)
+                processElement((Element) child, astElement);
+            else if (child instanceof TextNode)
+                processText(((TextNode) child).getWholeText(), astElement);
+            else if (!(child instanceof Comment))
+                unsupported("node " + child.nodeName());
+        }
+
+        // Remove trailing whitespace
+        List<AstNode> children = astElement.children;
+        if (!children.isEmpty() && isSpace(children.get(children.size() - 1)))
+            children.remove(children.size() - 1);
+
+        return astElement;
+    }
+
+    /**
+     * Check that both jsoup and the vue-template-compiler will see the same tree for this
+     * element.
+     */
+    private void checkTag(Element element, AstElement parent) throws UnsupportedTemplateException
+    {
+        String tag = element.tagName();
+        if (!TAG_NAME.matcher(tag).matches())
+            unsupported("tag name \"" + tag + "\"");
+
+        // Case sensitivity of tags differs between the parsers
+        if (!tag.equals(tag.toLowerCase()) || UNSUPPORTED_TAGS.contains(tag))
+            unsupported("tag " + tag);
+
+        // Both parsers must agree on which elements can't have children
+        boolean vueUnary = UNARY_TAGS.contains(tag) || (element.childNodeSize() == 0
+            && element.tag().isSelfClosing() && !element.tag().isEmpty());
+        if ((vueUnary && element.childNodeSize() > 0) || (element.tag().isEmpty()
+            && !UNARY_TAGS.contains(tag)))
+            unsupported("void tag " + tag);
+
+        // Vue closes some elements automatically, jsoup should already have done it
+        if (parent != null)
+        {
+            if ("p".equals(parent.tag) && NON_PHRASING_TAGS.contains(tag))
+                unsupported(tag + " in p");
+            if (CAN_BE_LEFT_OPEN_TAGS.contains(tag) && parent.tag.equals(tag))
+                unsupported(tag + " in " + tag);
+        }
+    }
+
+    private void processText(String text, AstElement parent)
+    {
+        List<AstNode> children = parent.children;
+        if (isBlank(text))
+        {
+            // Only preserve whitespace if it's not right after a starting tag
+            if (children.isEmpty())
+                return;
+            text = " ";
+        }
+
+        String expression;
+        if (!" ".equals(text) && (expression = parseText(text)) != null)
+        {
+            children.add(new AstText(text, expression));
+        }
+        else if (!" ".equals(text) || children.isEmpty() || !isSpace(children.get(
+            children.size() - 1)))
+        {
+            children.add(new AstText(text, null));
+        }
+    }
+
+    /**
+     * Turn a text with mustaches into a JS expression.
+     * @param text The text to process
+     * @return The expression, or null if there is no mustache in the text
+     */
+    private String parseText(String text)
+    {
+        Matcher matcher = MUSTACHE.matcher(text);
+        List<String> tokens = new ArrayList<>();
+        int lastIndex = 0;
+        while (matcher.find())
+        {
+            int index = matcher.start();
+            if (index > lastIndex)
+                tokens.add(JsUtil.stringify(text.substring(lastIndex, index)));
+
+            tokens.add("_s(" + JsUtil.parseFilters(JsUtil.trim(matcher.group(1))) + ")");
+            lastIndex = matcher.end();
+        }
+
+        if (tokens.isEmpty())
+            return null;
+
+        if (lastIndex < text.length())
+            tokens.add(JsUtil.stringify(text.substring(lastIndex)));
+
+        return String.join("+", tokens);
+    }
+
+    private void processFor(AstElement element) throws UnsupportedTemplateException
+    {
+        String expression = element.getAndRemoveAttr("v-for");
+        if (expression == null)
+            return;
+
+        Matcher inMatcher = FOR_ALIAS.matcher(expression);
+        if (!inMatcher.find())
+            unsupported("invalid v-for \"" + expression + "\"");
+
+        element.forExpression = requireNotEmpty(JsUtil.trim(inMatcher.group(2)), "v-for");
+        String alias = JsUtil.trim(inMatcher.group(1));
+        Matcher iteratorMatcher = FOR_ITERATOR.matcher(alias);
+        if (iteratorMatcher.find())
+        {
+            element.alias = JsUtil.trim(iteratorMatcher.group(1));
+            element.iterator1 = JsUtil.trim(iteratorMatcher.group(2));
+            if (iteratorMatcher.group(3) != null && !iteratorMatcher.group(3).isEmpty())
+                element.iterator2 = JsUtil.trim(iteratorMatcher.group(3));
+        }
+        else
+        {
+            element.alias = alias;
+        }
+    }
+
+    private void processIf(AstElement element) throws UnsupportedTemplateException
+    {
+        String expression = element.getAndRemoveAttr("v-if");
+        if (expression != null)
+        {
+            element.ifExpression = requireNotEmpty(expression, "v-if");
+            element.addIfCondition(expression, element);
+            return;
+        }
+
+        if (element.getAndRemoveAttr("v-else") != null)
+            element.isElse = true;
+
+        String elseIf = element.getAndRemoveAttr("v-else-if");
+        if (elseIf != null)
+            element.elseIfExpression = requireNotEmpty(elseIf, "v-else-if");
+    }
+
+    private void processIfConditions(AstElement element, AstElement parent)
+    {
+        AstElement previous = findPreviousElement(parent.children);
+        // Vue ignores the element if there is no v-if before
+        if (previous != null && previous.ifExpression != null)
+            previous.addIfCondition(element.elseIfExpression, element);
+    }
+
+    /**
+     * Find the last element in the given children, text between is removed.
+     */
+    private AstElement findPreviousElement(List<AstNode> children)
+    {
+        for (int i = children.size() - 1; i >= 0; i--)
+        {
+            AstNode child = children.get(i);
+            if (child instanceof AstElement)
+                return (AstElement) child;
+
+            children.remove(i);
+        }
+        return null;
+    }
+
+    private void processOnce(AstElement element) throws UnsupportedTemplateException
+    {
+        if (element.attrsMap.containsKey("v-once"))
+            unsupported("v-once");
+        if (element.attrsMap.containsKey("v-pre"))
+            unsupported("v-pre");
+    }
+
+    private void processKey(AstElement element) throws UnsupportedTemplateException
+    {
+        element.key = getBindingAttr(element, "key");
+    }
+
+    private void processRef(AstElement element) throws UnsupportedTemplateException
+    {
+        element.ref = getBindingAttr(element, "ref");
+        if (element.ref == null)
+            return;
+
+        AstElement parent = element;
+        while (parent != null)
+        {
+            if (parent.forExpression != null)
+            {
+                element.refInFor = true;
+                return;
+            }
+            parent = parent.parent;
+        }
+    }
+
+    private void processSlot(AstElement element) throws UnsupportedTemplateException
+    {
+        if (hasBindingAttr(element, "slot"))
+            unsupported("slot attribute");
+        if ("template".equals(element.tag) && element.attrsMap.containsKey("scope"))
+            unsupported("scoped slot");
+    }
+
+    private void processComponent(AstElement element) throws UnsupportedTemplateException
+    {
+        if (hasBindingAttr(element, "is"))
+            unsupported("is attribute");
+        if (element.attrsMap.containsKey("inline-template"))
+            unsupported("inline-template");
+    }
+
+    private void processClass(AstElement element) throws UnsupportedTemplateException
+    {
+        String staticClass = element.getAndRemoveAttr("class");
+        if (staticClass != null && !staticClass.isEmpty())
+            element.staticClass = JsUtil.stringify(staticClass);
+
+        element.classBinding = getDynamicBindingAttr(element, "class");
+    }
+
+    private void processStyle(AstElement element) throws UnsupportedTemplateException
+    {
+        String staticStyle = element.getAndRemoveAttr("style");
+        if (staticStyle != null && !staticStyle.isEmpty())
+            element.staticStyle = JsUtil.stringify(parseStyleText(staticStyle));
+
+        element.styleBinding = getDynamicBindingAttr(element, "style");
+    }
+
+    private Map<String, String> parseStyleText(String cssText)
+    {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String item : split(STYLE_LIST_DELIMITER, cssText))
+        {
+            if (item.isEmpty())
+                continue;
+
+            Matcher matcher = STYLE_PROPERTY_DELIMITER.matcher(item);
+            if (matcher.find())
+            {
+                result.put(JsUtil.trim(item.substring(0, matcher.start())),
+                    JsUtil.trim(matcher.group(1)));
+            }
+        }
+        return result;
+    }
+
+    private void processAttrs(AstElement element) throws UnsupportedTemplateException
+    {
+        for (Attribute attribute : element.attrsList)
+        {
+            String rawName = attribute.name;
+            String name = rawName;
+            String value = attribute.value;
+
+            if (!DIRECTIVE.matcher(name).find())
+            {
+                // Literal attribute
+                element.addAttr(name, JsUtil.stringify(value));
+                continue;
+            }
+
+            // Mark element as dynamic
+            element.hasBindings = true;
+            Map<String, Boolean> modifiers = parseModifiers(name);
+            if (modifiers != null)
+                name = MODIFIER.matcher(name).replaceAll("");
+
+            if (BIND.matcher(name).find())
+            {
+                name = BIND.matcher(name).replaceFirst("");
+                value = JsUtil.parseFilters(requireNotEmpty(value, rawName));
+                boolean isProp = false;
+                if (modifiers != null)
+                {
+                    if (modifiers.containsKey("prop"))
+                    {
+                        isProp = true;
+                        name = camelize(name);
+                        if ("innerHtml".equals(name))
+                            name = "innerHTML";
+                    }
+                    if (modifiers.containsKey("camel"))
+                        name = camelize(name);
+                    if (modifiers.containsKey("sync"))
+                        unsupported("v-bind with .sync");
+                }
+
+                requireNotEmpty(name, "v-bind without argument");
+                if (isProp || mustUseProp(element.tag, element.attrsMap.get("type"), name))
+                    element.addProp(name, value);
+                else
+                    element.addAttr(name, value);
+            }
+            else if (ON.matcher(name).find())
+            {
+                name = requireNotEmpty(ON.matcher(name).replaceFirst(""), "v-on without argument");
+                addHandler(element, name, requireNotEmpty(value, rawName), modifiers);
+            }
+            else
+            {
+                name = DIRECTIVE.matcher(name).replaceFirst("");
+                Matcher argMatcher = ARG.matcher(name);
+                String arg = null;
+                if (argMatcher.find())
+                {
+                    arg = argMatcher.group(1);
+                    if (!arg.isEmpty())
+                        name = name.substring(0, name.length() - (arg.length() + 1));
+                    else
+                        arg = null;
+                }
+
+                if ("model".equals(name) || "bind".equals(name) || "on".equals(name))
+                    unsupported("v-" + name);
+
+                element.addDirective(new Directive(name, rawName, value, arg, modifiers));
+            }
+        }
+    }
+
+    private void addHandler(AstElement element, String name, String value,
+        Map<String, Boolean> modifiers)
+    {
+        if (modifiers != null && modifiers.remove("capture") != null)
+            name = "!" + name;
+        if (modifiers != null && modifiers.remove("once") != null)
+            name = "~" + name;
+        if (modifiers != null && modifiers.remove("passive") != null)
+            name = "&" + name;
+
+        boolean isNative = modifiers != null && modifiers.remove("native") != null;
+        element.addHandler(name, new Handler(value, modifiers), isNative);
+    }
+
+    private Map<String, Boolean> parseModifiers(String name)
+    {
+        Matcher matcher = MODIFIER.matcher(name);
+        Map<String, Boolean> modifiers = null;
+        while (matcher.find())
+        {
+            if (modifiers == null)
+                modifiers = new LinkedHashMap<>();
+            modifiers.put(matcher.group().substring(1), true);
+        }
+        return modifiers;
+    }
+
+    /**
+     * Get the value of a bound attribute (":name" or "v-bind:name"), or of the static attribute
+     * as a JS String.
+     */
+    private String getBindingAttr(AstElement element, String name)
+    throws UnsupportedTemplateException
+    {
+        String dynamicValue = getDynamicBindingAttr(element, name);
+        if (dynamicValue != null)
+            return dynamicValue;
+
+        String staticValue = element.getAndRemoveAttr(name);
+        return staticValue == null ? null : JsUtil.stringify(staticValue);
+    }
+
+    private String getDynamicBindingAttr(AstElement element, String name)
+    throws UnsupportedTemplateException
+    {
+        String dynamicValue = element.getAndRemoveAttr(":" + name);
+        if (dynamicValue == null)
+            dynamicValue = element.getAndRemoveAttr("v-bind:" + name);
+        if (dynamicValue == null)
+            return null;
+
+        return JsUtil.parseFilters(requireNotEmpty(dynamicValue, name + " binding"));
+    }
+
+    private boolean hasBindingAttr(AstElement element, String name)
+    {
+        return element.attrsMap.containsKey(name)
+            || element.attrsMap.containsKey(":" + name)
+            || element.attrsMap.containsKey("v-bind:" + name);
+    }
+
+    private boolean mustUseProp(String tag, String type, String attr)
+    {
+        return ("value".equals(attr) && ACCEPT_VALUE_TAGS.contains(tag) && !"button".equals(type))
+            || ("selected".equals(attr) && "option".equals(tag))
+            || ("checked".equals(attr) && "input".equals(tag))
+            || ("muted".equals(attr) && "video".equals(tag));
+    }
+
+    static boolean isReservedTag(String tag)
+    {
+        return HTML_TAGS.contains(tag) || SVG_TAGS.contains(tag);
+    }
+
+    private static boolean isSpace(AstNode node)
+    {
+        return node instanceof AstText && " ".equals(((AstText) node).text);
+    }
+
+    /**
+     * Check if a text is only made of whitespace for Vue.
+     * Non breaking spaces are escaped when jsoup serializes the template, so Vue never sees them
+     * as whitespace.
+     */
+    private static boolean isBlank(String text)
+    {
+        for (int i = 0; i < text.length(); i++)
+        {
+            char c = text.charAt(i);
+            if (c == '\u00A0' || !JsUtil.isWhitespace(c))
+                return false;
+        }
+        return true;
+    }
+
+    private static String camelize(String value)
+    {
+        Matcher matcher = Pattern.compile("-(\\w)").matcher(value);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find())
+            matcher.appendReplacement(result, matcher.group(1).toUpperCase());
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Same as String.prototype.split in JS: trailing empty Strings are kept.
+     */
+    private static String[] split(Pattern pattern, String value)
+    {
+        return pattern.split(value, -1);
+    }
+
+    private static String requireNotEmpty(String value, String description)
+    throws UnsupportedTemplateException
+    {
+        if (value == null || value.isEmpty())
+            unsupported("empty " + description);
+        return value;
+    }
+
+    private static void unsupported(String feature) throws UnsupportedTemplateException
+    {
+        throw new UnsupportedTemplateException("Unsupported template feature: " + feature);
+    }
+
+    private static Set<String> set(String values)
+    {
+        return new HashSet<>(Arrays.asList(values.split(",")));
+    }
+}
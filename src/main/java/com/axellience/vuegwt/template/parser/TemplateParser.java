@@ -3,8 +3,10 @@ package com.axellience.vuegwt.template.parser;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.template.parser.exceptions.TemplateAttributeException;
 import com.axellience.vuegwt.template.parser.exceptions.TemplateExpressionException;
 import com.axellience.vuegwt.template.parser.result.TemplateExpression;
+import com.axellience.vuegwt.template.parser.result.TemplateExpressionKind;
 import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
 import com.axellience.vuegwt.template.parser.variable.LocalVariableInfo;
 import com.axellience.vuegwt.template.parser.variable.VariableInfo;
@@ -45,11 +47,18 @@ public class TemplateParser
 {
     private static Pattern VUE_ATTR_PATTERN = Pattern.compile("^(v-|:|@).*");
     private static Pattern VUE_MUSTACHE_PATTERN = Pattern.compile("\\{\\{.*?}}");
+    private static final String MEMOIZE_ATTRIBUTE = "vue-gwt:memoize";
+    private static final String COMPUTED_ATTRIBUTE = "vue-gwt:computed";
 
     private TemplateParserContext context;
     private TemplateParserResult result;
 
     private String currentExpressionReturnType;
+    private boolean currentExpressionIsEventHandler;
+    // Number of v-for with "vue-gwt:memoize" we are currently in
+    private int memoizedVForDepth = 0;
+    // Number of elements with "vue-gwt:computed" we are currently in
+    private int computedDepth = 0;
 
     public TemplateParser()
     {
@@ -65,13 +74,27 @@ public class TemplateParser
      */
     public TemplateParserResult parseHtmlTemplate(String htmlTemplate,
         JClassType templateResourceClass)
+    {
+        return parseHtmlTemplate(htmlTemplate, new TemplateParserContext(templateResourceClass));
+    }
+
+    /**
+     * Parse a given HTML template and return the a result object containing the expressions, styles
+     * and a transformed HTML.
+     * @param htmlTemplate The HTML template to process, as a String
+     * @param context The context with the fields and methods of the {@link VueComponent} we are
+     * processing
+     * @return A {@link TemplateParserResult} containing the processed template, expressions and styles
+     */
+    public TemplateParserResult parseHtmlTemplate(String htmlTemplate,
+        TemplateParserContext context)
     {
         result = new TemplateParserResult();
         Parser parser = Parser.htmlParser();
         parser.settings(new ParseSettings(true, true)); // tag, attribute preserve case
         Document doc = parser.parseInput(htmlTemplate, "");
 
-        context = new TemplateParserContext(templateResourceClass);
+        this.context = context;
         processImports(doc);
         processNode(doc);
 
@@ -119,6 +142,14 @@ public class TemplateParser
     {
         context.setCurrentNode(node);
 
+        boolean nodeHasComputed = node.attributes().hasKey(COMPUTED_ATTRIBUTE);
+        if (nodeHasComputed)
+        {
+            // Only used by Vue GWT, Vue.js doesn't need to see it
+            node.removeAttr(COMPUTED_ATTRIBUTE);
+            computedDepth++;
+        }
+
         boolean nodeHasVFor = node.attributes().hasKey("v-for");
         if (nodeHasVFor)
         {
@@ -130,6 +161,21 @@ public class TemplateParser
             node.attr("v-for", processedVForValue);
         }
 
+        boolean nodeHasMemoize = node.attributes().hasKey(MEMOIZE_ATTRIBUTE);
+        if (nodeHasMemoize)
+        {
+            if (!nodeHasVFor)
+            {
+                throw new TemplateAttributeException("Memoization can only be used on an element with a v-for.",
+                    MEMOIZE_ATTRIBUTE,
+                    context);
+            }
+
+            // Only used by Vue GWT, Vue.js doesn't need to see it
+            node.removeAttr(MEMOIZE_ATTRIBUTE);
+            memoizedVForDepth++;
+        }
+
         if (node instanceof TextNode)
         {
             processTextNode((TextNode) node);
@@ -143,6 +189,12 @@ public class TemplateParser
         node.childNodes().
             forEach(this::processNode);
 
+        if (nodeHasMemoize)
+            memoizedVForDepth--;
+
+        if (nodeHasComputed)
+            computedDepth--;
+
         if (nodeHasVFor)
         {
             // After downward recursion, pop the context layer
@@ -170,6 +222,7 @@ public class TemplateParser
                 newText.append(elementText.substring(lastEnd, start));
 
             currentExpressionReturnType = "String";
+            currentExpressionIsEventHandler = false;
             String expressionString = elementText.substring(start + 2, end - 2).trim();
             String processedExpression = processExpression(expressionString);
             newText.append("{{ ").append(processedExpression).append(" }}");
@@ -200,6 +253,8 @@ public class TemplateParser
                 continue;
 
             currentExpressionReturnType = getExpressionReturnTypeForAttribute(attribute);
+            currentExpressionIsEventHandler =
+                attributeName.indexOf("@") == 0 || attributeName.indexOf("v-on:") == 0;
             attribute.setValue(processExpression(attribute.getValue()));
         }
     }
@@ -237,6 +292,7 @@ public class TemplateParser
 
         // Set return of the "in" expression
         currentExpressionReturnType = vForDef.getInExpressionType();
+        currentExpressionIsEventHandler = false;
 
         String inExpression = vForDef.getInExpression();
 
@@ -347,10 +403,36 @@ public class TemplateParser
         // Add the resulting expression to our result
         TemplateExpression templateExpression = result.addExpression(expressionString,
             currentExpressionReturnType,
-            expressionParameters);
+            expressionParameters,
+            getExpressionKind(expressionParameters));
         return templateExpression;
     }
 
+    /**
+     * Choose how an expression is added to the Component.
+     * Expressions without parameters inside an element with "vue-gwt:computed" only depend on the
+     * Component, so they can be computed properties and be cached by Vue. This is opt-in, as
+     * expressions reading non reactive state would never be evaluated again. Expressions with
+     * parameters inside a v-for with
+     * "vue-gwt:memoize" are cached for each value of their parameters. Event handlers must always
+     * be called, so they stay methods.
+     * @param expressionParameters The parameters of the expression
+     * @return The kind of the expression
+     */
+    private TemplateExpressionKind getExpressionKind(List<VariableInfo> expressionParameters)
+    {
+        if (currentExpressionIsEventHandler)
+            return TemplateExpressionKind.METHOD;
+
+        if (computedDepth > 0 && expressionParameters.isEmpty())
+            return TemplateExpressionKind.COMPUTED_PROPERTY;
+
+        if (memoizedVForDepth > 0 && !expressionParameters.isEmpty())
+            return TemplateExpressionKind.MEMOIZED_METHOD;
+
+        return TemplateExpressionKind.METHOD;
+    }
+
     /**
      * Resolve all the types in the expression.
      * This will replace the Class with the full qualified name using the template imports.
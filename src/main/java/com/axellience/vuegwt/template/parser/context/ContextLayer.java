@@ -5,8 +5,10 @@ import com.axellience.vuegwt.template.parser.variable.VariableInfo;
 import com.google.gwt.core.ext.typeinfo.JField;
 import com.google.gwt.core.ext.typeinfo.JMethod;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -52,11 +54,31 @@ public class ContextLayer
 
     void addMethod(JMethod method)
     {
-        this.methods.add(method.getName());
+        addMethod(method.getName());
+    }
+
+    void addMethod(String methodName)
+    {
+        this.methods.add(methodName);
     }
 
     boolean hasMethod(String methodName)
     {
         return this.methods.contains(methodName);
     }
+
+    /**
+     * Return the signatures of the variables and methods in this layer.
+     * @return The signatures, in no particular order
+     */
+    List<String> getSignatures()
+    {
+        List<String> signatures = new ArrayList<>();
+        variables
+            .values()
+            .forEach(variable -> signatures.add("variable " + variable.getType() + " " + variable
+                .getName()));
+        methods.forEach(method -> signatures.add("method " + method));
+        return signatures;
+    }
 }
\ No newline at end of file
@@ -4,20 +4,39 @@ import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionArrayView;
+import com.axellience.vuegwt.jsr69.GenerationUtil;
 import com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil;
+import com.axellience.vuegwt.jsr69.component.ComponentJsTypeGenerator;
+import com.axellience.vuegwt.jsr69.component.annotations.Computed;
+import com.axellience.vuegwt.jsr69.component.annotations.PropDefault;
+import com.axellience.vuegwt.jsr69.component.annotations.PropValidator;
+import com.axellience.vuegwt.jsr69.component.annotations.Watch;
 import com.axellience.vuegwt.template.parser.variable.LocalVariableInfo;
 import com.axellience.vuegwt.template.parser.variable.VariableInfo;
 import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.dom.client.NativeEvent;
+import com.squareup.javapoet.TypeName;
 import org.jsoup.nodes.Node;
 
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.axellience.vuegwt.jsr69.GenerationNameUtil.COMPONENT_JS_TYPE_SUFFIX;
+import static com.axellience.vuegwt.jsr69.GenerationUtil.hasAnnotation;
+import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.getSuperComponentType;
 
 /**
  * Context of the parser.
@@ -27,7 +46,7 @@ import static com.axellience.vuegwt.jsr69.GenerationNameUtil.COMPONENT_JS_TYPE_S
  */
 public class TemplateParserContext
 {
-    private final JClassType componentJsTypeClass;
+    private final String templateName;
     private final ContextLayer rootContext;
     private final Deque<ContextLayer> contextLayers = new ArrayDeque<>();
 
@@ -45,19 +64,58 @@ public class TemplateParserContext
      */
     public TemplateParserContext(JClassType templateResourceClass)
     {
-        this.componentJsTypeClass = templateResourceClass;
+        String componentJsTypeName = templateResourceClass.getName();
+        this.templateName = componentJsTypeName.substring(0,
+            componentJsTypeName.length() - COMPONENT_JS_TYPE_SUFFIX.length()) + ".html";
+        this.rootContext = new ContextLayer();
+        init();
+
+        registerFieldsAndMethodsInContext(templateResourceClass);
+    }
+
+    /**
+     * Build the context based on a given {@link VueComponent} {@link TypeElement}.
+     * Used when processing templates during annotation processing, when the generated {@link
+     * TemplateResource} class is not available yet.
+     * @param componentTypeElement The {@link VueComponent} we are processing
+     */
+    public TemplateParserContext(TypeElement componentTypeElement)
+    {
+        this.templateName = componentTypeElement.getSimpleName().toString() + ".html";
+        this.rootContext = new ContextLayer();
+        init();
+
+        registerFieldsAndMethodsInContext(componentTypeElement);
+        registerJsTypeMembersInContext(componentTypeElement);
+    }
 
+    /**
+     * Build an empty context, only containing the default imports and variables.
+     * Fields and methods of the {@link VueComponent} can then be registered using {@link
+     * #addRootVariable(String, String)} and {@link #addRootMethod(String)}.
+     * @param templateName The name of the template, used for debugging
+     */
+    public TemplateParserContext(String templateName)
+    {
+        this.templateName = templateName;
+        this.rootContext = new ContextLayer();
+        init();
+    }
+
+    /**
+     * Add the default imports and variables to the context.
+     */
+    private void init()
+    {
         this.addImport(NativeEvent.class.getCanonicalName());
         this.addImport(JsArray.class.getCanonicalName());
+        this.addImport(CollectionArrayView.class.getCanonicalName());
         this.addImport(Math.class.getCanonicalName());
         this.addStaticImport(JsObject.class.getCanonicalName() + ".map");
         this.addStaticImport(JsObject.class.getCanonicalName() + ".e");
         this.addStaticImport(JsArray.class.getCanonicalName() + ".array");
 
-        this.rootContext = new ContextLayer();
         this.rootContext.addVariable(String.class, "_uid");
-        registerFieldsAndMethodsInContext(templateResourceClass);
-
         this.contextLayers.add(this.rootContext);
     }
 
@@ -87,6 +145,91 @@ public class TemplateParserContext
         registerFieldsAndMethodsInContext(templateResourceClass.getSuperclass());
     }
 
+    /**
+     * Process the {@link VueComponent} class to register all the fields and methods visible in
+     * the context.
+     * @param componentTypeElement The class to process
+     */
+    private void registerFieldsAndMethodsInContext(TypeElement componentTypeElement)
+    {
+        // Stop recursion when getting to VueComponent class
+        if (componentTypeElement == null || componentTypeElement
+            .getQualifiedName()
+            .toString()
+            .equals(VueComponent.class.getCanonicalName()))
+            return;
+
+        ElementFilter
+            .fieldsIn(componentTypeElement.getEnclosedElements())
+            .stream()
+            .filter(ComponentGenerationUtil::isFieldVisibleInJS)
+            .forEach(field -> rootContext.addVariable(TypeName.get(field.asType()).toString(),
+                field.getSimpleName().toString()));
+
+        ElementFilter
+            .methodsIn(componentTypeElement.getEnclosedElements())
+            .stream()
+            .filter(ComponentGenerationUtil::isMethodVisibleInTemplate)
+            .forEach(method -> rootContext.addMethod(method.getSimpleName().toString()));
+
+        TypeMirror superclass = componentTypeElement.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED)
+        {
+            registerFieldsAndMethodsInContext((TypeElement) ((DeclaredType) superclass).asElement());
+        }
+    }
+
+    /**
+     * Register the members added by the {@link ComponentJsTypeGenerator} to the JsType of our
+     * {@link VueComponent}: proxy methods and fields for computed properties.
+     * @param componentTypeElement The {@link VueComponent} we are processing
+     */
+    private void registerJsTypeMembersInContext(TypeElement componentTypeElement)
+    {
+        ElementFilter
+            .methodsIn(componentTypeElement.getEnclosedElements())
+            .stream()
+            .filter(method -> hasAnnotation(method, Computed.class)
+                || hasAnnotation(method, Watch.class)
+                || hasAnnotation(method, PropValidator.class)
+                || hasAnnotation(method, PropDefault.class))
+            .forEach(method -> rootContext.addMethod(method.getSimpleName().toString()));
+
+        registerComputedPropertiesInContext(componentTypeElement, new HashSet<>());
+    }
+
+    /**
+     * Register the fields for computed properties of the {@link VueComponent} and its parents.
+     * @param componentTypeElement The class to process
+     * @param alreadyDone Already registered computed properties (in case there is a getter and a
+     * setter)
+     */
+    private void registerComputedPropertiesInContext(TypeElement componentTypeElement,
+        Set<String> alreadyDone)
+    {
+        ElementFilter
+            .methodsIn(componentTypeElement.getEnclosedElements())
+            .stream()
+            .filter(method -> hasAnnotation(method, Computed.class))
+            .forEach(method -> {
+                String propertyName = GenerationUtil.getComputedPropertyName(method);
+                if (alreadyDone.contains(propertyName))
+                    return;
+
+                TypeMirror propertyType;
+                if ("void".equals(method.getReturnType().toString()))
+                    propertyType = method.getParameters().get(0).asType();
+                else
+                    propertyType = method.getReturnType();
+
+                rootContext.addVariable(TypeName.get(propertyType).toString(), propertyName);
+                alreadyDone.add(propertyName);
+            });
+
+        getSuperComponentType(componentTypeElement).ifPresent(superComponent ->
+            registerComputedPropertiesInContext(superComponent, alreadyDone));
+    }
+
     /**
      * Add a variable to the root context.
      * @param type The type of the variable to add
@@ -97,6 +240,15 @@ public class TemplateParserContext
         this.rootContext.addVariable(type, name);
     }
 
+    /**
+     * Add a method to the root context.
+     * @param name The name of the method to add
+     */
+    public void addRootMethod(String name)
+    {
+        this.rootContext.addMethod(name);
+    }
+
     /**
      * Add a context layer. Used when entering a node with v-for.
      */
@@ -254,8 +406,18 @@ public class TemplateParserContext
      */
     public String getTemplateName()
     {
-        String componentJsTypeName = componentJsTypeClass.getName();
-        return componentJsTypeName.substring(0,
-            componentJsTypeName.length() - COMPONENT_JS_TYPE_SUFFIX.length()) + ".html";
+        return templateName;
+    }
+
+    /**
+     * Return the signatures of the variables and methods available in the root context.
+     * The result of the parsing only depends on those and the template content.
+     * @return A sorted list of signatures
+     */
+    public List<String> getRootSignatures()
+    {
+        List<String> signatures = rootContext.getSignatures();
+        Collections.sort(signatures);
+        return signatures;
     }
 }
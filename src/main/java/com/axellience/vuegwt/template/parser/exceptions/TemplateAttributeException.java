@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.template.parser.exceptions;
+
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+
+/**
+ * An exception thrown when an attribute is misused in the template.
+ * @author Adrien Baron
+ */
+public class TemplateAttributeException extends TemplateParserException
+{
+    private static final long serialVersionUID = 1L;
+
+    public TemplateAttributeException(String message, String attribute,
+        TemplateParserContext context)
+    {
+        super(message + "\n\nOn attribute: " + attribute, context);
+    }
+}
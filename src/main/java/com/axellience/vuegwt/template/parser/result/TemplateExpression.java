@@ -2,6 +2,7 @@ package com.axellience.vuegwt.template.parser.result;
 
 import com.axellience.vuegwt.template.parser.variable.VariableInfo;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -11,23 +12,28 @@ import java.util.List;
  * For each Java expression in the template, a {@link TemplateExpression} is created.
  * The Java expression from the template is then replaced by the result of {@link
  * TemplateExpression#toTemplateString()}.
- * This expression will be either by a computed property or a Method in the Vue.js Component.
+ * This expression will be either a computed property or a Method in the Vue.js Component,
+ * depending on its {@link TemplateExpressionKind}.
  * @author Adrien Baron
  */
-public class TemplateExpression
+public class TemplateExpression implements Serializable
 {
+    private static final long serialVersionUID = 1L;
+
     private final String id;
     private final String body;
     private final String type;
     private final List<VariableInfo> parameters = new LinkedList<>();
+    private final TemplateExpressionKind kind;
 
     public TemplateExpression(String id, String body, String type,
-        Collection<VariableInfo> parameters)
+        Collection<VariableInfo> parameters, TemplateExpressionKind kind)
     {
         this.id = id;
         this.type = type;
         this.body = body;
         this.parameters.addAll(parameters);
+        this.kind = kind;
     }
 
     /**
@@ -67,6 +73,15 @@ public class TemplateExpression
         return body;
     }
 
+    /**
+     * How this expression is added to the Vue.js Component.
+     * @return The kind of this expression
+     */
+    public TemplateExpressionKind getKind()
+    {
+        return kind;
+    }
+
     /**
      * Return this expression as a string that can be placed in the template as a replacement
      * of the Java expression.
@@ -74,6 +89,9 @@ public class TemplateExpression
      */
     public String toTemplateString()
     {
+        if (kind == TemplateExpressionKind.COMPUTED_PROPERTY)
+            return this.getId();
+
         String[] parametersName =
             this.parameters.stream().map(VariableInfo::getName).toArray(String[]::new);
 
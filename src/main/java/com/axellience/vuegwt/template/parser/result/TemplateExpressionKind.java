@@ -0,0 +1,22 @@
+package com.axellience.vuegwt.template.parser.result;
+
+/**
+ * How a {@link TemplateExpression} is added to the Vue.js Component.
+ * @author Adrien Baron
+ */
+public enum TemplateExpressionKind
+{
+    /**
+     * A method, called at each render.
+     */
+    METHOD,
+    /**
+     * A computed property, cached by Vue.js until one of its dependencies changes.
+     */
+    COMPUTED_PROPERTY,
+    /**
+     * A method whose results are cached for each combination of parameters, until one of their
+     * dependencies changes.
+     */
+    MEMOIZED_METHOD
+}
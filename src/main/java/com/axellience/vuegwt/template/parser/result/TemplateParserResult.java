@@ -2,6 +2,7 @@ package com.axellience.vuegwt.template.parser.result;
 
 import com.axellience.vuegwt.template.parser.variable.VariableInfo;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -13,10 +14,13 @@ import static com.axellience.vuegwt.client.component.template.TemplateResource.E
  * Result of a template parsing.
  * @author Adrien Baron
  */
-public class TemplateParserResult
+public class TemplateParserResult implements Serializable
 {
+    private static final long serialVersionUID = 1L;
+
     private String processedTemplate;
     private final List<TemplateExpression> expressions = new LinkedList<>();
+    private final Map<String, TemplateExpression> expressionsByKey = new HashMap<>();
     private final Map<String, String> styleImports = new HashMap<>();
 
     /**
@@ -43,25 +47,60 @@ public class TemplateParserResult
      * Add an expression to the result.
      * All the Java methods from the template will be added here so we can add them to our Vue.js
      * component.
+     * If the same expression, with the same type and parameters, has already been added, the
+     * existing {@link TemplateExpression} is returned so they share the same method.
      * @param expression The Java expression
      * @param expressionType The type of the expression, determined depending on the context it is
      * used in.
      * @param parameters The parameters this expression depends on (can be empty)
+     * @param kind How the expression should be added to the Vue.js Component
      * @return The {@link TemplateExpression} for this Java expression, will be used to get the
      * string to put in the template instead.
      */
     public TemplateExpression addExpression(String expression, String expressionType,
-        List<VariableInfo> parameters)
+        List<VariableInfo> parameters, TemplateExpressionKind kind)
     {
+        String body = expression.trim();
+        String key = getExpressionKey(body, expressionType, parameters, kind);
+
+        TemplateExpression existingExpression = expressionsByKey.get(key);
+        if (existingExpression != null)
+            return existingExpression;
+
         String id = EXPRESSION_PREFIX + this.expressions.size();
 
         TemplateExpression templateExpression =
-            new TemplateExpression(id, expression.trim(), expressionType, parameters);
+            new TemplateExpression(id, body, expressionType, parameters, kind);
 
         this.expressions.add(templateExpression);
+        this.expressionsByKey.put(key, templateExpression);
         return templateExpression;
     }
 
+    /**
+     * Get a key identifying an expression. Two expressions with the same key can share the same
+     * method.
+     * @param body The body of the expression, as normalized by the Java parser
+     * @param expressionType The type of the expression
+     * @param parameters The parameters of the expression
+     * @param kind The kind of the expression
+     * @return The key for this expression
+     */
+    private String getExpressionKey(String body, String expressionType,
+        List<VariableInfo> parameters, TemplateExpressionKind kind)
+    {
+        StringBuilder key = new StringBuilder(kind.name())
+            .append(" ")
+            .append(expressionType)
+            .append(" ")
+            .append(body)
+            .append("(");
+        for (VariableInfo parameter : parameters)
+            key.append(parameter.getType()).append(" ").append(parameter.getName()).append(",");
+
+        return key.append(")").toString();
+    }
+
     /**
      * Return the list of expression we found in the template.
      * @return The list of {@link TemplateExpression}
@@ -6,6 +6,8 @@ package com.axellience.vuegwt.template.parser.variable;
  */
 public class LocalVariableInfo extends VariableInfo
 {
+    private static final long serialVersionUID = 1L;
+
     public LocalVariableInfo(String typeQualifiedName, String localName)
     {
         super(typeQualifiedName, localName);
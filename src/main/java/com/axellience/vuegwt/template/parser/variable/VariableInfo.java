@@ -1,13 +1,17 @@
 package com.axellience.vuegwt.template.parser.variable;
 
+import java.io.Serializable;
+
 /**
  * Information about a Variable in the template.
  * Can be for example a variable accessible from Java (@JsProperty), a Computed Property a loop
  * variable (v-for) or method parameters.
  * @author Adrien Baron
  */
-public class VariableInfo
+public class VariableInfo implements Serializable
 {
+    private static final long serialVersionUID = 1L;
+
     private String type;
     private String name;
 
@@ -6,6 +6,17 @@
 
 	const observerManager = context.VueGWT.observerManager;
 
+	/**
+	 * Mark an object so Vue never walks its properties or the items of the array.
+	 * The property is not enumerable, so it doesn't show up when iterating on the object.
+	 */
+	const RAW_PROPERTY = "$$vueGwtRaw";
+	observerManager.markRaw = function (object) {
+		if (!object.hasOwnProperty(RAW_PROPERTY))
+			Object.defineProperty(object, RAW_PROPERTY, {value: true});
+		return object;
+	};
+
 	/**
 	 * Wrap the default Vue Observer walk method to observe Java object.
 	 * Java world sometimes do things that are not observable by Vue.js. For example java
@@ -17,15 +28,36 @@
 		const obProto = Object.getPrototypeOf(ob);
 		const vueWalk = obProto.walk;
 		obProto.walk = function (obj) {
-			if (observerManager.observeJavaObject(obj)) {
+			if (obj[RAW_PROPERTY] || observerManager.observeJavaObject(obj)) {
 				return;
 			}
 
 			vueWalk(obj);
 		};
 
-		observerManager.observeArray = obProto.observeArray;
+		const vueObserveArray = obProto.observeArray;
+		obProto.observeArray = function (items) {
+			if (items[RAW_PROPERTY]) {
+				return;
+			}
+
+			vueObserveArray.call(this, items);
+		};
+
+		observerManager.observeArray = vueObserveArray;
 		observerManager.makeReactive = vueWalk;
+
+		const Dep = ob.dep.constructor;
+		observerManager.createDep = () => new Dep();
+		observerManager.isCollectingDependencies = () => !!Dep.target;
+		// Watchers created with $watch or @Watch are "user" watchers
+		observerManager.restrictDepToUserWatchers = function (dep) {
+			const depend = dep.depend;
+			dep.depend = function () {
+				if (Dep.target && Dep.target.user)
+					depend.call(this);
+			};
+		};
 	};
 
 	/**
@@ -38,24 +70,29 @@
 	 * To fix the issue, we manually look for those properties and set them explicitly on the
 	 * object.
 	 */
-	const staticPropertiesCache = {};
-	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject, className) {
-		let cache = staticPropertiesCache[className];
+	const STATIC_PROPERTIES_PROPERTY = "$$vueGwtStaticProperties";
+	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject) {
+		// The prototype is shared by all the instances of a class, we store the properties on it.
+		// Check it's our own so we don't use the ones of the parent class.
+		const proto = Object.getPrototypeOf(javaObject);
+		let cache = proto.hasOwnProperty(STATIC_PROPERTIES_PROPERTY) ?
+			proto[STATIC_PROPERTIES_PROPERTY] : null;
 		if (!cache) {
 			cache = [];
-			const proto = Object.getPrototypeOf(javaObject);
 			for (let key in proto) {
 				const value = proto[key];
 				if (value === null || (typeof value !== "function" && typeof value !== "object"))
 					cache.push({key: key, value: value});
 			}
+			Object.defineProperty(proto, STATIC_PROPERTIES_PROPERTY, {value: cache});
 		}
 
 		// Set values on the object
-		cache.forEach(entry => {
+		for (let i = 0; i < cache.length; i++) {
+			const entry = cache[i];
 			if (!javaObject.hasOwnProperty(entry.key))
 				javaObject[entry.key] = entry.value;
-		});
+		}
 	};
 
 	/**
@@ -53,6 +53,143 @@
 			return result;
 		};
 	};
+	/**
+	 * Wrap a template expression method to cache its results for each Component instance and each
+	 * combination of arguments (compared by identity).
+	 * Each cached result has its own watcher, so it's computed again only when one of its
+	 * reactive dependencies changes. The render depends on a reactive version of the result, so
+	 * the Component is rendered again when a result changes.
+	 * Results not used during a render are dropped before the DOM is patched.
+	 */
+	let memoizedExpressionsCount = 0;
+	tools.memoizeTemplateExpression = function (expressionMethod) {
+		const cacheProperty = "$$vueGwtMemoize" + (++memoizedExpressionsCount);
+		return function () {
+			const vm = this;
+			let cache = vm[cacheProperty];
+			if (!cache) {
+				cache = createMemoizeCache(vm);
+				Object.defineProperty(vm, cacheProperty, {value: cache});
+			}
+
+			// One Map per argument, the last one holds the entries
+			const maps = [cache.root];
+			const last = arguments.length - 1;
+			for (let i = 0; i < last; i++) {
+				let nextMap = maps[i].get(arguments[i]);
+				if (!nextMap) {
+					nextMap = new Map();
+					maps[i].set(arguments[i], nextMap);
+				}
+				maps.push(nextMap);
+			}
+
+			let entry = maps[last].get(arguments[last]);
+			if (!entry) {
+				entry = createMemoizeEntry(vm, expressionMethod, arguments, maps);
+				maps[last].set(arguments[last], entry);
+				cache.entries.push(entry);
+			}
+
+			entry.generation = cache.generation;
+			// Reading the version makes the render depend on this result
+			return entry.state.version && entry.value;
+		};
+	};
+
+	function createMemoizeCache(vm) {
+		const cache = {root: new Map(), entries: [], generation: 0};
+		// The first render is not followed by beforeUpdate, start a new generation for the next one
+		if (!vm._isMounted)
+			vm.$once("hook:mounted", () => cache.generation++);
+
+		// Called after the render, drop results that were not used
+		vm.$on("hook:beforeUpdate", function () {
+			cache.entries = cache.entries.filter(entry => {
+				if (entry.generation === cache.generation)
+					return true;
+
+				entry.unwatch();
+				deleteMemoizeEntry(entry);
+				return false;
+			});
+			cache.generation++;
+		});
+		return cache;
+	}
+
+	function createMemoizeEntry(vm, expressionMethod, args, maps) {
+		args = Array.prototype.slice.call(args);
+		const entry = {args: args, maps: maps, value: undefined, state: {}};
+		Vue.util.defineReactive(entry.state, "version", 1);
+
+		// Sync, so the result is updated before the render it triggers
+		entry.unwatch = vm.$watch(() => expressionMethod.apply(vm, args), value => {
+			entry.value = value;
+			entry.state.version++;
+		}, {sync: true, immediate: true});
+		return entry;
+	}
+
+	// Remove the entry from its Map, and the Maps left empty from their parents
+	function deleteMemoizeEntry(entry) {
+		for (let i = entry.maps.length - 1; i >= 0; i--) {
+			entry.maps[i].delete(entry.args[i]);
+			if (entry.maps[i].size > 0)
+				return;
+		}
+	}
+
+	/**
+	 * Wrap the render function of a functional Component.
+	 * Vue.js calls it with the props and context of the Component, while our render functions
+	 * expect to be called on a Component instance. We call them on an object that looks enough
+	 * like one: it inherits the Java methods and template expressions, and has the props, the
+	 * Vue.js render helpers and the computed template expressions.
+	 */
+	const renderHelpers = ["_o", "_n", "_s", "_l", "_t", "_q", "_i", "_m", "_f", "_k", "_b", "_v",
+		"_e", "_u", "_g"];
+	tools.createFunctionalRender = function (componentOptions, renderPrototype, styles) {
+		const render = componentOptions.render;
+
+		// Shared by all the renders of this Component
+		const proto = Object.create(renderPrototype);
+		renderHelpers.forEach(helper => proto[helper] = Vue.prototype[helper]);
+		proto.$options = componentOptions;
+		for (let styleName in styles)
+			proto[styleName] = styles[styleName];
+		const computed = componentOptions.computed || {};
+		for (let computedName in computed)
+			Object.defineProperty(proto, computedName, {get: computed[computedName].get});
+		proto.$emit = function (event) {
+			const listeners = this.$listeners[event];
+			if (!listeners)
+				return this;
+
+			const args = Array.prototype.slice.call(arguments, 1);
+			[].concat(listeners).forEach(listener => listener.apply(null, args));
+			return this;
+		};
+
+		return function (h, context) {
+			const vm = Object.create(proto);
+			const props = context.props;
+			for (let propName in props)
+				vm[propName] = props[propName];
+
+			vm._c = vm.$createElement = h;
+			vm._self = vm._renderProxy = vm;
+			vm._staticTrees = [];
+			vm.$props = props;
+			vm.$parent = context.parent;
+			vm.$listeners = context.listeners;
+			vm.$attrs = context.data.attrs || {};
+			vm.$slots = context.slots();
+			vm.$scopedSlots = context.data.scopedSlots || {};
+			return render.call(vm, h);
+		};
+	};
+
 	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype) {
 		const vueProto = extendedVueConstructor.prototype;
 
@@ -71,6 +208,17 @@
 
 	const observerManager = context.VueGWT.observerManager;
 
+	/**
+	 * Mark an object so Vue never walks its properties or the items of the array.
+	 * The property is not enumerable, so it doesn't show up when iterating on the object.
+	 */
+	const RAW_PROPERTY = "$$vueGwtRaw";
+	observerManager.markRaw = function (object) {
+		if (!object.hasOwnProperty(RAW_PROPERTY))
+			Object.defineProperty(object, RAW_PROPERTY, {value: true});
+		return object;
+	};
+
 	/**
 	 * Wrap the default Vue Observer walk method to observe Java object.
 	 * Java world sometimes do things that are not observable by Vue.js. For example java
@@ -82,15 +230,36 @@
 		const obProto = Object.getPrototypeOf(ob);
 		const vueWalk = obProto.walk;
 		obProto.walk = function (obj) {
-			if (observerManager.observeJavaObject(obj)) {
+			if (obj[RAW_PROPERTY] || observerManager.observeJavaObject(obj)) {
 				return;
 			}
 
 			vueWalk(obj);
 		};
 
-		observerManager.observeArray = obProto.observeArray;
+		const vueObserveArray = obProto.observeArray;
+		obProto.observeArray = function (items) {
+			if (items[RAW_PROPERTY]) {
+				return;
+			}
+
+			vueObserveArray.call(this, items);
+		};
+
+		observerManager.observeArray = vueObserveArray;
 		observerManager.makeReactive = vueWalk;
+
+		const Dep = ob.dep.constructor;
+		observerManager.createDep = () => new Dep();
+		observerManager.isCollectingDependencies = () => !!Dep.target;
+		// Watchers created with $watch or @Watch are "user" watchers
+		observerManager.restrictDepToUserWatchers = function (dep) {
+			const depend = dep.depend;
+			dep.depend = function () {
+				if (Dep.target && Dep.target.user)
+					depend.call(this);
+			};
+		};
 	};
 
 	/**
@@ -103,24 +272,29 @@
 	 * To fix the issue, we manually look for those properties and set them explicitly on the
 	 * object.
 	 */
-	const staticPropertiesCache = {};
-	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject, className) {
-		let cache = staticPropertiesCache[className];
+	const STATIC_PROPERTIES_PROPERTY = "$$vueGwtStaticProperties";
+	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject) {
+		// The prototype is shared by all the instances of a class, we store the properties on it.
+		// Check it's our own so we don't use the ones of the parent class.
+		const proto = Object.getPrototypeOf(javaObject);
+		let cache = proto.hasOwnProperty(STATIC_PROPERTIES_PROPERTY) ?
+			proto[STATIC_PROPERTIES_PROPERTY] : null;
 		if (!cache) {
 			cache = [];
-			const proto = Object.getPrototypeOf(javaObject);
 			for (let key in proto) {
 				const value = proto[key];
 				if (value === null || (typeof value !== "function" && typeof value !== "object"))
 					cache.push({key: key, value: value});
 			}
+			Object.defineProperty(proto, STATIC_PROPERTIES_PROPERTY, {value: cache});
 		}
 
 		// Set values on the object
-		cache.forEach(entry => {
+		for (let i = 0; i < cache.length; i++) {
+			const entry = cache[i];
 			if (!javaObject.hasOwnProperty(entry.key))
 				javaObject[entry.key] = entry.value;
-		});
+		}
 	};
 
 	/**
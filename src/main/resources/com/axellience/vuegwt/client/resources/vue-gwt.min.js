@@ -1,4 +1,9 @@
-(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.tools||(a.VueGWT.tools={});a=a.VueGWT.tools;a.createInstanceForVueClass=function(b){return new b};a.extendVueClass=function(b,c){return b.extend(c)};a.javaArrayToJsArray=function(b){return b};a.wrapMethodWithBefore=function(b,c,a){var d=b[c];null===d&&console.error("Attempting to wrap a non existing method",b,c);b[c]=function(){a(b,c,arguments);return d.apply(this,arguments)}};a.wrapMethodWithAfter=function(b,c,a){var d=b[c];null===d&&console.error("Attempting to wrap a non existing method",
-b,c);b[c]=function(){var e=d.apply(this,arguments);a(b,c,e,arguments);return e}};a.wrapMethod=function(b,a,d,e){var c=b[a];null===c&&console.error("Attempting to wrap a non existing method",b,a);b[a]=function(){d(b,a,arguments);var f=c.apply(this,arguments);e(b,a,f,arguments);return f}};a.extendVueConstructorWithJavaPrototype=function(b,a){b=b.prototype;for(var d in a)b.hasOwnProperty(d)||(b[d]=a[d])}})(window);
-(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.observerManager||(a.VueGWT.observerManager={});var b=a.VueGWT.observerManager;b.customizeVueObserver=function(a){a=Object.getPrototypeOf(a);var c=a.walk;a.walk=function(a){b.observeJavaObject(a)||c(a)};b.observeArray=a.observeArray;b.makeReactive=c};var c={};b.makeStaticallyInitializedPropertiesReactive=function(a,b){b=c[b];if(!b){b=[];var d=Object.getPrototypeOf(a),f;for(f in d){var e=d[f];(null===e||"function"!==typeof e&&"object"!==typeof e)&&b.push({key:f,
-value:e})}}b.forEach(function(b){a.hasOwnProperty(b.key)||(a[b.key]=b.value)})};new Vue({created:function(){b.customizeVueObserver(this.$data.__ob__)}})})(window);
\ No newline at end of file
+(function(f){function k(a){var c={root:new Map,entries:[],generation:0};a._isMounted||a.$once("hook:mounted",function(){return c.generation++});a.$on("hook:beforeUpdate",function(){c.entries=c.entries.filter(function(a){if(a.generation===c.generation)return!0;a.unwatch();a:for(var b=a.maps.length-1;0<=b;b--)if(a.maps[b].delete(a.args[b]),0<a.maps[b].size)break a;return!1});c.generation++});return c}function l(a,c,b,g){b=Array.prototype.slice.call(b);var d={args:b,maps:g,value:void 0,state:{}};Vue.util.defineReactive(d.state,
+"version",1);d.unwatch=a.$watch(function(){return c.apply(a,b)},function(a){d.value=a;d.state.version++},{sync:!0,immediate:!0});return d}f.VueGWT||(f.VueGWT={});f.VueGWT.tools||(f.VueGWT.tools={});f=f.VueGWT.tools;f.createInstanceForVueClass=function(a){return new a};f.extendVueClass=function(a,c){return a.extend(c)};f.javaArrayToJsArray=function(a){return a};f.wrapMethodWithBefore=function(a,c,b){var g=a[c];null===g&&console.error("Attempting to wrap a non existing method",a,c);a[c]=function(){b(a,
+c,arguments);return g.apply(this,arguments)}};f.wrapMethodWithAfter=function(a,c,b){var g=a[c];null===g&&console.error("Attempting to wrap a non existing method",a,c);a[c]=function(){var d=g.apply(this,arguments);b(a,c,d,arguments);return d}};f.wrapMethod=function(a,c,b,g){var d=a[c];null===d&&console.error("Attempting to wrap a non existing method",a,c);a[c]=function(){b(a,c,arguments);var e=d.apply(this,arguments);g(a,c,e,arguments);return e}};var m=0;f.memoizeTemplateExpression=function(a){var c=
+"$$vueGwtMemoize"+ ++m;return function(){var b=this[c];b||(b=k(this),Object.defineProperty(this,c,{value:b}));for(var g=[b.root],d=arguments.length-1,e=0;e<d;e++){var f=g[e].get(arguments[e]);f||(f=new Map,g[e].set(arguments[e],f));g.push(f)}e=g[d].get(arguments[d]);e||(e=l(this,a,arguments,g),g[d].set(arguments[d],e),b.entries.push(e));e.generation=b.generation;return e.state.version&&e.value}};var n="_o _n _s _l _t _q _i _m _f _k _b _v _e _u _g".split(" ");f.createFunctionalRender=function(a,c,
+b){var f=a.render,d=Object.create(c);n.forEach(function(a){return d[a]=Vue.prototype[a]});d.$options=a;for(var e in b)d[e]=b[e];a=a.computed||{};for(var h in a)Object.defineProperty(d,h,{get:a[h].get});d.$emit=function(a){var c=this.$listeners[a];if(!c)return this;var b=Array.prototype.slice.call(arguments,1);[].concat(c).forEach(function(a){return a.apply(null,b)});return this};return function(a,c){var b=Object.create(d),e=c.props,g;for(g in e)b[g]=e[g];b._c=b.$createElement=a;b._self=b._renderProxy=
+b;b._staticTrees=[];b.$props=e;b.$parent=c.parent;b.$listeners=c.listeners;b.$attrs=c.data.attrs||{};b.$slots=c.slots();b.$scopedSlots=c.data.scopedSlots||{};return f.call(b,a)}};f.extendVueConstructorWithJavaPrototype=function(a,c){a=a.prototype;for(var b in c)a.hasOwnProperty(b)||(a[b]=c[b])}})(window);
+(function(f){f.VueGWT||(f.VueGWT={});f.VueGWT.observerManager||(f.VueGWT.observerManager={});var b=f.VueGWT.observerManager;b.markRaw=function(b){b.hasOwnProperty("$$vueGwtRaw")||Object.defineProperty(b,"$$vueGwtRaw",{value:!0});return b};b.customizeVueObserver=function(g){var a=Object.getPrototypeOf(g),d=a.walk;a.walk=function(a){a.$$vueGwtRaw||b.observeJavaObject(a)||d(a)};var c=a.observeArray;a.observeArray=function(a){a.$$vueGwtRaw||c.call(this,a)};b.observeArray=c;b.makeReactive=d;var e=g.dep.constructor;
+b.createDep=function(){return new e};b.isCollectingDependencies=function(){return!!e.target};b.restrictDepToUserWatchers=function(a){var b=a.depend;a.depend=function(){e.target&&e.target.user&&b.call(this)}}};b.makeStaticallyInitializedPropertiesReactive=function(b){var a=Object.getPrototypeOf(b),d=a.hasOwnProperty("$$vueGwtStaticProperties")?a.$$vueGwtStaticProperties:null;if(!d){var d=[],c;for(c in a){var e=a[c];(null===e||"function"!==typeof e&&"object"!==typeof e)&&d.push({key:c,value:e})}Object.defineProperty(a,
+"$$vueGwtStaticProperties",{value:d})}for(a=0;a<d.length;a++)c=d[a],b.hasOwnProperty(c.key)||(b[c.key]=c.value)};new Vue({created:function(){b.customizeVueObserver(this.$data.__ob__)}})})(window);
\ No newline at end of file
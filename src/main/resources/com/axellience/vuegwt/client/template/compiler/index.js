@@ -7,4 +7,23 @@
 	};
 
 	context.compile = require('vue-template-compiler').compile;
+
+	/**
+	 * Compile several templates in one call, to avoid the cost of going back and forth between
+	 * Java and JS for each template.
+	 * Results are returned in one flat array of String, for each template:
+	 * render function, number of static render functions, static render functions...
+	 */
+	context.compileAll = function (templates) {
+		var result = [];
+		for (var i = 0; i < templates.length; i++) {
+			var compiled = context.compile(templates[i]);
+			result.push(compiled.render);
+			result.push(String(compiled.staticRenderFns.length));
+			for (var j = 0; j < compiled.staticRenderFns.length; j++) {
+				result.push(compiled.staticRenderFns[j]);
+			}
+		}
+		return Java.to(result, "java.lang.String[]");
+	};
 })(this);
\ No newline at end of file